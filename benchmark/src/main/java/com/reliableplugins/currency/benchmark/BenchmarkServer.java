@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.benchmark;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.api.Economy;
+import com.reliableplugins.currency.config.PluginConfig;
+import com.reliableplugins.currency.model.CurrencyModel;
+import com.reliableplugins.currency.storage.CurrencyStorage;
+import com.hypixel.hytale.server.core.event.events.player.PlayerConnectEvent;
+import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
+import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * HyCurrency started on the stub server runtime with a throwaway data directory.
+ * Players join and leave through the plugin's own connect and disconnect handlers.
+ */
+public final class BenchmarkServer extends HyCurrencyPlugin {
+
+    /**
+     * Storage type for {@link H2Storage}, the MySQL backend on an in-memory database.
+     */
+    public static final String H2 = "h2";
+
+    private final Path dataDirectory;
+    private final boolean h2;
+
+    private BenchmarkServer(Path dataDirectory, boolean h2) {
+        super(new JavaPluginInit(dataDirectory));
+        this.dataDirectory = dataDirectory;
+        this.h2 = h2;
+    }
+
+    /**
+     * @param storageType A storage type as written in config.json, e.g. "json" or "sqlite", or {@link #H2}
+     */
+    public static BenchmarkServer start(String storageType) throws IOException {
+        return start(storageType, config -> { });
+    }
+
+    /**
+     * @param configure Applied to the default config.json before the plugin starts
+     */
+    public static BenchmarkServer start(String storageType, Consumer<PluginConfig> configure) throws IOException {
+        Path dataDirectory = Files.createTempDirectory("hycurrency-bench-");
+        boolean h2 = H2.equalsIgnoreCase(storageType);
+        PluginConfig config = PluginConfig.load(dataDirectory);
+        config.setStorageType(h2 ? "mysql" : storageType);
+        configure.accept(config);
+        config.save(dataDirectory);
+
+        BenchmarkServer server = new BenchmarkServer(dataDirectory, h2);
+        server.setup();
+        return server;
+    }
+
+    @Override
+    protected CurrencyStorage createStorage() {
+        if (!h2) {
+            return super.createStorage();
+        }
+        // Unlike the factory, no fallback to JSON: a broken stand-in should fail the run
+        CurrencyStorage storage = new H2Storage(this, dataDirectory.getFileName().toString());
+        storage.initialize();
+        return storage;
+    }
+
+    /**
+     * @return The Economy other plugins would get
+     */
+    public Economy economy() {
+        return HyCurrencyPlugin.getEconomy();
+    }
+
+    /**
+     * Connect a player and wait until their account is cached.
+     */
+    public CurrencyModel join(UUID playerId, String playerName) {
+        getEventRegistry().dispatch(new PlayerConnectEvent(new PlayerRef(playerId, playerName)));
+        CompletableFuture<CurrencyModel> loading = getCurrencyManager().getLoadingFuture(playerId.toString());
+        return loading != null ? loading.join() : getCurrencyDataMap().get(playerId.toString());
+    }
+
+    /**
+     * Disconnect a player. Their account is saved in the background.
+     */
+    public void leave(UUID playerId, String playerName) {
+        getEventRegistry().dispatch(new PlayerDisconnectEvent(new PlayerRef(playerId, playerName)));
+    }
+
+    /**
+     * Shut the plugin down and delete its data directory.
+     */
+    public void stop() throws IOException {
+        shutdown();
+        try (Stream<Path> paths = Files.walk(dataDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+}
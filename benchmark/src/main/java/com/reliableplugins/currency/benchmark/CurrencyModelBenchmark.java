@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.benchmark;
+
+import com.reliableplugins.currency.model.CurrencyModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Balance reads and updates on a bare model, without the listeners the manager installs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyModelBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("1.25");
+
+    private CurrencyModel model;
+
+    @Setup
+    public void setup() {
+        model = new CurrencyModel();
+        model.setCurrency("money", BigDecimal.valueOf(2500));
+        model.setCurrency("vote_points", BigDecimal.TEN);
+    }
+
+    @Benchmark
+    public BigDecimal getCurrency() {
+        return model.getCurrency("money");
+    }
+
+    @Benchmark
+    public BigDecimal addAmount() {
+        model.addAmount("money", AMOUNT);
+        return model.getCurrency("money");
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.benchmark;
+
+import com.reliableplugins.currency.api.BalanceHandle;
+import com.reliableplugins.currency.api.BalanceHolder;
+import com.reliableplugins.currency.api.Economy;
+import com.reliableplugins.currency.api.EconomyResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The synchronous Economy calls for online players, as another plugin would make them from the
+ * server thread. Each call targets the next of {@link #players} online accounts in turn.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EconomyBenchmark {
+
+    private static final String CURRENCY = "money";
+    private static final BigDecimal AMOUNT = new BigDecimal("1.25");
+
+    @Param({"1000"})
+    public int players;
+
+    private BenchmarkServer server;
+    private Economy economy;
+    private UUID[] playerIds;
+    private BalanceHandle[] handles;
+    private final BalanceHolder balance = new BalanceHolder();
+    private int next;
+
+    @Setup
+    public void start() throws IOException {
+        server = BenchmarkServer.start("json");
+        economy = server.economy();
+        playerIds = new UUID[players];
+        handles = new BalanceHandle[players];
+        for (int i = 0; i < players; i++) {
+            playerIds[i] = UUID.randomUUID();
+            server.join(playerIds[i], "player" + i);
+            handles[i] = economy.getBalanceHandle(playerIds[i], CURRENCY);
+        }
+    }
+
+    @TearDown
+    public void stop() throws IOException {
+        server.stop();
+    }
+
+    private int nextPlayer() {
+        int index = next + 1;
+        next = index == players ? 0 : index;
+        return next;
+    }
+
+    @Benchmark
+    public EconomyResponse getBalance() {
+        return economy.getBalance(playerIds[nextPlayer()], CURRENCY);
+    }
+
+    @Benchmark
+    public EconomyResponse has() {
+        return economy.has(playerIds[nextPlayer()], CURRENCY, AMOUNT);
+    }
+
+    @Benchmark
+    public EconomyResponse deposit() {
+        return economy.deposit(playerIds[nextPlayer()], CURRENCY, AMOUNT);
+    }
+
+    @Benchmark
+    public EconomyResponse depositThenWithdraw() {
+        UUID playerId = playerIds[nextPlayer()];
+        economy.deposit(playerId, CURRENCY, AMOUNT);
+        return economy.withdraw(playerId, CURRENCY, AMOUNT);
+    }
+
+    // Every account pays the next one, so balances stay level across a full round
+    @Benchmark
+    public EconomyResponse transfer() {
+        int from = nextPlayer();
+        int to = from + 1 == players ? 0 : from + 1;
+        return economy.transfer(playerIds[from], playerIds[to], CURRENCY, AMOUNT);
+    }
+
+    @Benchmark
+    public int handleDeposit() {
+        return handles[nextPlayer()].deposit(125, balance);
+    }
+
+    @Benchmark
+    public int handleBalance() {
+        return handles[nextPlayer()].balance(balance);
+    }
+
+    @Benchmark
+    public Map<UUID, BigDecimal> getTopBalances() {
+        return economy.getTopBalances(CURRENCY, 10);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.benchmark;
+
+import com.google.gson.Gson;
+import com.reliableplugins.currency.model.CurrencyMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting a balance with the default template and with grouping and fixed decimals.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+
+    private static final Gson GSON = new Gson();
+
+    private final BigDecimal amount = new BigDecimal("1234567.891");
+    private final StringBuilder line = new StringBuilder(64);
+    private CurrencyMetadata plain;
+    private CurrencyMetadata grouped;
+
+    @Setup
+    public void setup() {
+        plain = GSON.fromJson("""
+                {"id": "money", "name": "Money", "symbol": "$", "format": "%symbol%%amount%"}
+                """, CurrencyMetadata.class);
+        grouped = GSON.fromJson("""
+                {"id": "money", "name": "Money", "symbol": "$", "format": "%symbol%%amount%",
+                 "grouping": true, "displayDecimals": 2}
+                """, CurrencyMetadata.class);
+    }
+
+    @Benchmark
+    public String formatAmount() {
+        return plain.formatAmount(amount);
+    }
+
+    @Benchmark
+    public String formatAmountGrouped() {
+        return grouped.formatAmount(amount);
+    }
+
+    // A scoreboard line rendered into a reused builder
+    @Benchmark
+    public int appendToBuilder() {
+        line.setLength(0);
+        line.append("Balance: ");
+        grouped.getFormatter().appendTo(line, amount);
+        return line.length();
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.benchmark;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.storage.impl.sql.MySQLStorage;
+import com.reliableplugins.currency.storage.sql.ConnectionPool;
+
+/**
+ * The MySQL backend pointed at an in-memory H2 database in MySQL mode, so the SQL paths can be
+ * measured without a database server. The database lives until the pool is closed.
+ */
+public class H2Storage extends MySQLStorage {
+
+    private static final String URL = "jdbc:h2:mem:{database};MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+    private static final String DRIVER = "org.h2.Driver";
+    // H2 has no information_schema.STATISTICS; its indexes are listed in INDEXES
+    private static final String SCHEMA_SNAPSHOT = "SELECT 'column', TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME IN ({tables}) "
+            + "UNION ALL SELECT 'index', TABLE_NAME, INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME IN ({tables})";
+
+    private final String database;
+
+    public H2Storage(HyCurrencyPlugin plugin, String database) {
+        super(plugin, "localhost", 0, database, "sa", "");
+        this.database = database;
+    }
+
+    @Override
+    protected ConnectionPool createConnectionPool() {
+        // Same pool size as MySQLStorage, so contention on connections is comparable
+        return ConnectionPool.builder()
+                .poolName("HyCurrency-H2")
+                .jdbcUrl(URL.replace("{database}", database))
+                .driverClassName(DRIVER)
+                .username("sa")
+                .password("")
+                .maximumPoolSize(10)
+                .minimumIdle(10)
+                .build();
+    }
+
+    @Override
+    protected String getSchemaSnapshotTemplate() {
+        return SCHEMA_SNAPSHOT;
+    }
+}
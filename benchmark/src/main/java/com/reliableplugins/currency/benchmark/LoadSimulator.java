@@ -0,0 +1,486 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.benchmark;
+
+import com.reliableplugins.currency.api.Economy;
+import com.reliableplugins.currency.api.EconomyResponse;
+import com.reliableplugins.currency.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * End-to-end load generator. Connects a population of simulated players through the plugin's
+ * connect handler, then has worker threads drive a weighted mix of economy calls for a fixed
+ * time while players keep disconnecting and reconnecting, and prints throughput and latency
+ * percentiles per operation for each storage backend.
+ * <p>
+ * Each worker owns a slice of the players and is the only thread that connects them. Every
+ * player is in one world, and like a server, each world has a single thread: the sync economy
+ * calls, disconnects, and the calls that start async work all run on it, while workers only wait
+ * for the results. Transfers and async calls target other players of the same world, online or
+ * not, so they also meet offline accounts without touching another world's players.
+ *
+ * <pre>
+ * mvn -f benchmark/pom.xml compile exec:exec@load -Dload.args="--storage sqlite,h2 --players 2000"
+ * </pre>
+ */
+public final class LoadSimulator {
+
+    private static final String CURRENCY = "money";
+    private static final BigDecimal AMOUNT = new BigDecimal("1.25");
+    private static final BigDecimal STARTING_BALANCE = BigDecimal.valueOf(10_000);
+    private static final int LEADERBOARD_PAGE_SIZE = 10;
+
+    private static final String USAGE = """
+            Usage: LoadSimulator [options]
+              --storage <types>     Comma-separated backends: json, sqlite, h2 (default json,sqlite,h2)
+              --players <n>         Simulated players (default 500)
+              --threads <n>         Worker threads (default 8)
+              --worlds <n>          Simulated worlds, each with one server thread (default 1)
+              --duration <seconds>  Measured time per backend (default 30)
+              --warmup <seconds>    Unmeasured time before it (default 5)
+              --mix <weights>       Relative weights of sync, async, transfer and leaderboard calls
+                                    (default sync=60,async=20,transfer=15,leaderboard=5)
+              --churn <percent>     Share of iterations that disconnect an online player (default 2)
+            """;
+
+    enum Operation {
+        CONNECT, DISCONNECT, SYNC, ASYNC, TRANSFER, LEADERBOARD;
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Latency and failures of each operation over one phase of a run.
+     */
+    private static final class Stats {
+
+        private final Map<Operation, LatencyHistogram> latency = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> failures = new EnumMap<>(Operation.class);
+
+        Stats() {
+            for (Operation operation : Operation.values()) {
+                latency.put(operation, new LatencyHistogram());
+                failures.put(operation, new LongAdder());
+            }
+        }
+
+        void record(Operation operation, long startNanos, boolean success) {
+            latency.get(operation).recordSince(startNanos);
+            if (!success) {
+                failures.get(operation).increment();
+            }
+        }
+
+        long total() {
+            long total = 0;
+            for (Operation operation : Operation.values()) {
+                total += latency.get(operation).getCount();
+            }
+            return total;
+        }
+    }
+
+    private final String storageType;
+    private final int playerCount;
+    private final int threadCount;
+    private final int worldCount;
+    private final long durationNanos;
+    private final long warmupNanos;
+    // Cumulative weights of SYNC, ASYNC, TRANSFER and LEADERBOARD, in that order
+    private final int[] mix;
+    private final int churnPercent;
+
+    private final UUID[] playerIds;
+    private final boolean[] online;
+
+    private ExecutorService[] worlds;
+    private BenchmarkServer server;
+    private Economy economy;
+    private volatile Stats stats;
+    private volatile boolean running;
+
+    private LoadSimulator(String storageType, Map<String, String> options) {
+        this.storageType = storageType;
+        this.playerCount = intOption(options, "players", 500, 2);
+        this.threadCount = Math.min(playerCount, intOption(options, "threads", 8, 1));
+        this.worldCount = Math.min(playerCount, intOption(options, "worlds", 1, 1));
+        this.durationNanos = TimeUnit.SECONDS.toNanos(intOption(options, "duration", 30, 1));
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(intOption(options, "warmup", 5, 0));
+        this.mix = parseMix(options.getOrDefault("mix", "sync=60,async=20,transfer=15,leaderboard=5"));
+        this.churnPercent = intOption(options, "churn", 2, 0);
+
+        this.playerIds = new UUID[playerCount];
+        this.online = new boolean[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            playerIds[i] = UUID.randomUUID();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String storage = options.getOrDefault("storage", "json,sqlite," + BenchmarkServer.H2);
+
+        List<String> summary = new ArrayList<>();
+        for (String storageType : storage.split(",")) {
+            LoadSimulator simulator = new LoadSimulator(storageType.trim(), options);
+            summary.add(simulator.run());
+        }
+
+        System.out.println();
+        System.out.println("== Summary ==");
+        summary.forEach(System.out::println);
+    }
+
+    /**
+     * Run the simulation against one backend and print its report.
+     *
+     * @return A one-line summary
+     */
+    private String run() throws IOException, InterruptedException {
+        worlds = new ExecutorService[worldCount];
+        for (int w = 0; w < worldCount; w++) {
+            String name = "World-" + w;
+            worlds[w] = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, name));
+        }
+        server = BenchmarkServer.start(storageType);
+        economy = server.economy();
+        String summary;
+        try {
+            System.out.println();
+            System.out.printf("== %s: %d players, %d threads, %d worlds ==%n", storageType, playerCount, threadCount, worldCount);
+
+            Stats connectWave = new Stats();
+            stats = connectWave;
+            long waveStart = System.nanoTime();
+            runWorkers(this::connectAll);
+            long waveNanos = System.nanoTime() - waveStart;
+            LatencyHistogram connects = connectWave.latency.get(Operation.CONNECT);
+            System.out.printf("connected %d players in %d ms (p99 %s)%n",
+                    connects.getCount(), TimeUnit.NANOSECONDS.toMillis(waveNanos), formatNanos(connects.getPercentileNanos(0.99)));
+
+            running = true;
+            stats = new Stats();
+            List<Thread> workers = startWorkers(this::simulate);
+            TimeUnit.NANOSECONDS.sleep(warmupNanos);
+            Stats measured = new Stats();
+            stats = measured;
+            long start = System.nanoTime();
+            TimeUnit.NANOSECONDS.sleep(durationNanos);
+            running = false;
+            long elapsedNanos = System.nanoTime() - start;
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            summary = report(measured, elapsedNanos);
+        } finally {
+            server.stop();
+            for (ExecutorService world : worlds) {
+                world.shutdown();
+            }
+        }
+
+        // On a real server these would outlive a plugin reload
+        List<String> leaked = awaitPluginThreads();
+        if (!leaked.isEmpty()) {
+            System.out.println("threads still running after shutdown: " + leaked);
+            summary += ", " + leaked.size() + " threads left running";
+        }
+        return summary;
+    }
+
+    private static List<String> awaitPluginThreads() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        List<String> alive;
+        do {
+            alive = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.isAlive() && thread.getName().startsWith("HyCurrency"))
+                    .map(Thread::getName)
+                    .sorted()
+                    .toList();
+            if (alive.isEmpty()) {
+                break;
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+        } while (System.nanoTime() < deadline);
+        return alive;
+    }
+
+    private void runWorkers(WorkerTask task) throws InterruptedException {
+        for (Thread worker : startWorkers(task)) {
+            worker.join();
+        }
+    }
+
+    private List<Thread> startWorkers(WorkerTask task) {
+        List<Thread> workers = new ArrayList<>(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            int worker = t;
+            Thread thread = new Thread(() -> task.run(worker), "LoadSimulator-" + worker);
+            thread.start();
+            workers.add(thread);
+        }
+        return workers;
+    }
+
+    @FunctionalInterface
+    private interface WorkerTask {
+        void run(int worker);
+    }
+
+    private void connectAll(int worker) {
+        for (int player = worker; player < playerCount; player += threadCount) {
+            connect(player);
+            UUID playerId = playerIds[player];
+            onWorld(player, () -> economy.setBalance(playerId, CURRENCY, STARTING_BALANCE));
+        }
+    }
+
+    private void simulate(int worker) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int owned = (playerCount - worker + threadCount - 1) / threadCount;
+        while (running) {
+            int player = worker + random.nextInt(owned) * threadCount;
+            if (!online[player]) {
+                connect(player);
+            } else if (random.nextInt(100) < churnPercent) {
+                disconnect(player);
+            } else {
+                call(random, player);
+            }
+        }
+    }
+
+    private void connect(int player) {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            success = server.join(playerIds[player], playerName(player)) != null;
+        } catch (RuntimeException e) {
+            success = false;
+        }
+        stats.record(Operation.CONNECT, start, success);
+        online[player] = success;
+    }
+
+    private void disconnect(int player) {
+        long start = System.nanoTime();
+        onWorld(player, () -> {
+            server.leave(playerIds[player], playerName(player));
+            return null;
+        });
+        stats.record(Operation.DISCONNECT, start, true);
+        online[player] = false;
+    }
+
+    private void call(ThreadLocalRandom random, int player) {
+        UUID playerId = playerIds[player];
+        UUID otherId = playerIds[sameWorldPlayer(random, player)];
+        Operation operation = pickOperation(random.nextInt(mix[mix.length - 1]));
+
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            success = switch (operation) {
+                case SYNC -> {
+                    int kind = random.nextInt(4);
+                    yield onWorld(player, () -> switch (kind) {
+                        case 0 -> economy.getBalance(playerId, CURRENCY);
+                        case 1 -> economy.has(playerId, CURRENCY, AMOUNT);
+                        case 2 -> economy.deposit(playerId, CURRENCY, AMOUNT);
+                        default -> economy.withdraw(playerId, CURRENCY, AMOUNT);
+                    }).isSuccess();
+                }
+                case ASYNC -> {
+                    boolean read = random.nextBoolean();
+                    yield onWorld(player, () -> read
+                            ? economy.getBalanceAsync(otherId, CURRENCY)
+                            : economy.depositAsync(otherId, CURRENCY, AMOUNT)).join().isSuccess();
+                }
+                case TRANSFER -> onWorld(player, () -> transfer(playerId, otherId)).join();
+                case LEADERBOARD -> {
+                    if (random.nextBoolean()) {
+                        yield !onWorld(player, () -> economy.getTopBalances(CURRENCY, LEADERBOARD_PAGE_SIZE)).isEmpty();
+                    }
+                    int offset = random.nextInt(10) * LEADERBOARD_PAGE_SIZE;
+                    yield onWorld(player, () -> economy.getLeaderboardPageAsync(CURRENCY, offset, LEADERBOARD_PAGE_SIZE)).join() != null;
+                }
+                default -> throw new IllegalStateException("Not a call: " + operation);
+            };
+        } catch (RuntimeException e) {
+            success = false;
+        }
+        stats.record(operation, start, success);
+    }
+
+    // On the world thread: sync when both sides are cached, as a plugin would; otherwise the async variant reaches storage
+    private CompletableFuture<Boolean> transfer(UUID fromId, UUID toId) {
+        if (fromId.equals(toId)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        if (economy.isPlayerOnline(toId)) {
+            return CompletableFuture.completedFuture(economy.transfer(fromId, toId, CURRENCY, AMOUNT).isSuccess());
+        }
+        return economy.transferAsync(fromId, toId, CURRENCY, AMOUNT).thenApply(EconomyResponse::isSuccess);
+    }
+
+    /**
+     * Run a task on the thread of the player's world and wait for it, the way a worker hands
+     * a command to the server and waits for the reply.
+     */
+    private <T> T onWorld(int player, Supplier<T> task) {
+        try {
+            return worlds[player % worldCount].submit(task::get).get();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private int sameWorldPlayer(ThreadLocalRandom random, int player) {
+        int world = player % worldCount;
+        int inWorld = (playerCount - world + worldCount - 1) / worldCount;
+        return world + random.nextInt(inWorld) * worldCount;
+    }
+
+    private Operation pickOperation(int roll) {
+        if (roll < mix[0]) {
+            return Operation.SYNC;
+        } else if (roll < mix[1]) {
+            return Operation.ASYNC;
+        } else if (roll < mix[2]) {
+            return Operation.TRANSFER;
+        }
+        return Operation.LEADERBOARD;
+    }
+
+    private String report(Stats measured, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%-12s %10s %10s %9s %9s %9s %9s %8s%n",
+                "operation", "count", "ops/s", "p50", "p99", "p99.9", "max", "failed");
+        LatencyHistogram all = new LatencyHistogram();
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = measured.latency.get(operation);
+            long count = histogram.getCount();
+            if (count == 0) {
+                continue;
+            }
+            System.out.printf("%-12s %10d %10.0f %9s %9s %9s %9s %8d%n",
+                    operation.label(), count, count / seconds,
+                    formatNanos(histogram.getPercentileNanos(0.5)),
+                    formatNanos(histogram.getPercentileNanos(0.99)),
+                    formatNanos(histogram.getPercentileNanos(0.999)),
+                    formatNanos(histogram.getMaxNanos()),
+                    measured.failures.get(operation).sum());
+        }
+
+        long total = measured.total();
+        String poolStats = server.getCurrencyManager().getStorage().getPoolStats();
+        if (poolStats != null) {
+            System.out.println("pool: " + poolStats);
+        }
+        return String.format("%-8s %10.0f ops/s over %.1f s, %d online at the end",
+                storageType, total / seconds, seconds, server.getCurrencyDataMap().size());
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000_000) {
+            return String.format("%.1fus", nanos / 1e3);
+        }
+        return String.format("%.2fms", nanos / 1e6);
+    }
+
+    private static String playerName(int player) {
+        return "Player" + player;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i] + "\n" + USAGE);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue, int min) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(min, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a number, got " + value + "\n" + USAGE);
+        }
+    }
+
+    private static int[] parseMix(String value) {
+        List<Operation> calls = List.of(Operation.SYNC, Operation.ASYNC, Operation.TRANSFER, Operation.LEADERBOARD);
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split("=", 2);
+            try {
+                Operation operation = Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT));
+                if (!calls.contains(operation)) {
+                    throw new IllegalArgumentException(operation.label());
+                }
+                weights.put(operation, Math.max(0, Integer.parseInt(pair[1].trim())));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid --mix entry: " + part + "\n" + USAGE);
+            }
+        }
+
+        int[] cumulative = new int[calls.size()];
+        int sum = 0;
+        for (int i = 0; i < calls.size(); i++) {
+            sum += weights.getOrDefault(calls.get(i), 0);
+            cumulative[i] = sum;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("--mix needs at least one positive weight\n" + USAGE);
+        }
+        return cumulative;
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.benchmark;
+
+import com.reliableplugins.currency.model.CurrencyModel;
+import com.reliableplugins.currency.storage.CurrencyStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips of the storage backends: loading and saving one account, and the top balances
+ * query. Each call waits for its future, so the figures include the storage lane hand-off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({"json", "sqlite", BenchmarkServer.H2})
+    public String storageType;
+
+    @Param({"1000"})
+    public int accounts;
+
+    private BenchmarkServer server;
+    private CurrencyStorage storage;
+    private String[] playerIds;
+    private CurrencyModel[] models;
+    private int next;
+
+    @Setup
+    public void start() throws IOException {
+        server = BenchmarkServer.start(storageType);
+        storage = server.getCurrencyManager().getStorage();
+        playerIds = new String[accounts];
+        models = new CurrencyModel[accounts];
+        for (int i = 0; i < accounts; i++) {
+            playerIds[i] = UUID.randomUUID().toString();
+            CurrencyModel model = new CurrencyModel();
+            model.setPlayerName("player" + i);
+            model.setCurrency("money", BigDecimal.valueOf(i * 10L));
+            model.setCurrency("vote_points", BigDecimal.valueOf(i % 50));
+            models[i] = model;
+            storage.saveAsync(playerIds[i], model).join();
+        }
+    }
+
+    @TearDown
+    public void stop() throws IOException {
+        server.stop();
+    }
+
+    private int nextAccount() {
+        int index = next + 1;
+        next = index == accounts ? 0 : index;
+        return next;
+    }
+
+    @Benchmark
+    public CurrencyModel load() {
+        return storage.loadAsync(playerIds[nextAccount()]).join();
+    }
+
+    @Benchmark
+    public Void save() {
+        int index = nextAccount();
+        models[index].addAmount("money", BigDecimal.ONE);
+        return storage.saveAsync(playerIds[index], models[index]).join();
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> topBalances() {
+        return storage.getTopBalances("money", 10).join();
+    }
+
+}
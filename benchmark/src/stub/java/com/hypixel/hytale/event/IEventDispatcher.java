@@ -16,8 +16,12 @@
  * See the LICENSE file in the project root for full license information.
  */
 
-package com.reliableplugins.currency.command.sub.leaderboard;
+package com.hypixel.hytale.event;
 
-import java.math.BigDecimal;
+public interface IEventDispatcher<E, R> {
 
-record LeaderboardEntry(String playerId, BigDecimal amount) {}
+    boolean hasListener();
+
+    R dispatch(E event);
+
+}
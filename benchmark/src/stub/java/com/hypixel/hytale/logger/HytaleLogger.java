@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.hypixel.hytale.logger;
+
+/**
+ * Stand-in logger: warnings and errors go to stderr, everything else is dropped
+ * so logging does not distort measurements.
+ */
+public class HytaleLogger {
+
+    private static final Api SILENT = new Api(null);
+
+    private final String name;
+
+    public HytaleLogger(String name) {
+        this.name = name;
+    }
+
+    public Api atSevere() {
+        return new Api("[" + name + "] SEVERE ");
+    }
+
+    public Api atWarning() {
+        return new Api("[" + name + "] WARNING ");
+    }
+
+    public Api atInfo() {
+        return SILENT;
+    }
+
+    public Api atFine() {
+        return SILENT;
+    }
+
+    public static class Api {
+
+        private final String prefix;
+
+        private Api(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public Api withCause(Throwable cause) {
+            return this;
+        }
+
+        public void log(String message) {
+            if (prefix != null) {
+                System.err.println(prefix + message);
+            }
+        }
+    }
+
+}
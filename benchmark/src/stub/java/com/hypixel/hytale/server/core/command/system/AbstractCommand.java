@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.hypixel.hytale.server.core.command.system;
+
+import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgType;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AbstractCommand {
+
+    protected AbstractCommand(String name, String description) {
+    }
+
+    protected AbstractCommand(String description) {
+    }
+
+    public void addAliases(String... aliases) {
+    }
+
+    public void addSubCommand(AbstractCommand command) {
+    }
+
+    public void addUsageVariant(AbstractCommand command) {
+    }
+
+    public <T> RequiredArg<T> withRequiredArg(String name, String description, ArgType<T> type) {
+        return new RequiredArg<>();
+    }
+
+    public <T> OptionalArg<T> withOptionalArg(String name, String description, ArgType<T> type) {
+        return new OptionalArg<>();
+    }
+
+    protected abstract CompletableFuture<Void> execute(CommandContext ctx);
+
+}
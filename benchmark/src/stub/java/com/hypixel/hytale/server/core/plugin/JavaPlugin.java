@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.hypixel.hytale.server.core.plugin;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.command.system.AbstractCommand;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in plugin base. Event handlers are kept so a harness can raise
+ * server events itself through {@link EventRegistry#dispatch(Object)}.
+ */
+public class JavaPlugin {
+
+    private final JavaPluginInit init;
+    private final HytaleLogger logger;
+    private final CommandRegistry commandRegistry = new CommandRegistry();
+    private final EventRegistry eventRegistry = new EventRegistry();
+
+    public JavaPlugin(JavaPluginInit init) {
+        this.init = init;
+        this.logger = new HytaleLogger(getClass().getSimpleName());
+    }
+
+    protected void setup() {
+    }
+
+    protected void shutdown() {
+    }
+
+    public HytaleLogger getLogger() {
+        return logger;
+    }
+
+    public Path getDataDirectory() {
+        return init.getDataDirectory();
+    }
+
+    public CommandRegistry getCommandRegistry() {
+        return commandRegistry;
+    }
+
+    public EventRegistry getEventRegistry() {
+        return eventRegistry;
+    }
+
+    public static class CommandRegistry {
+
+        private final List<AbstractCommand> commands = new CopyOnWriteArrayList<>();
+
+        public void registerCommand(AbstractCommand command) {
+            commands.add(command);
+        }
+
+    }
+
+    public static class EventRegistry {
+
+        private final Map<Class<?>, List<Consumer<Object>>> handlers = new ConcurrentHashMap<>();
+
+        public <T> void register(Class<T> eventClass, Consumer<T> handler) {
+            registerGlobal(eventClass, handler);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> void registerGlobal(Class<T> eventClass, Consumer<T> handler) {
+            handlers.computeIfAbsent(eventClass, k -> new CopyOnWriteArrayList<>()).add((Consumer<Object>) handler);
+        }
+
+        /**
+         * Run the handlers registered for the event's class on the calling thread.
+         */
+        public void dispatch(Object event) {
+            List<Consumer<Object>> registered = handlers.get(event.getClass());
+            if (registered != null) {
+                registered.forEach(handler -> handler.accept(event));
+            }
+        }
+
+    }
+
+}
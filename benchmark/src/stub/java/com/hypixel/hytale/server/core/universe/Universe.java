@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.hypixel.hytale.server.core.universe;
+
+import com.hypixel.hytale.server.core.NameMatching;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stand-in universe without connected players; commands that look players up find no one.
+ */
+public class Universe {
+
+    private static final Universe INSTANCE = new Universe();
+
+    private final World defaultWorld = new World();
+
+    public static Universe get() {
+        return INSTANCE;
+    }
+
+    public PlayerRef getPlayer(UUID uuid) {
+        return null;
+    }
+
+    public PlayerRef getPlayerByUsername(String username, NameMatching matching) {
+        return null;
+    }
+
+    public List<PlayerRef> getPlayers() {
+        return List.of();
+    }
+
+    public World getWorld(UUID uuid) {
+        return null;
+    }
+
+    public World getDefaultWorld() {
+        return defaultWorld;
+    }
+
+}
@@ -24,32 +24,42 @@ import com.reliableplugins.currency.command.CurrencyCommand;
 import com.reliableplugins.currency.config.CurrencyConfig;
 import com.reliableplugins.currency.config.PluginConfig;
 import com.reliableplugins.currency.listener.PlayerCurrencyHandler;
+import com.reliableplugins.currency.metrics.MeteredEconomy;
+import com.reliableplugins.currency.metrics.MeteredStorage;
+import com.reliableplugins.currency.metrics.MetricsRegistry;
 import com.reliableplugins.currency.model.CurrencyManager;
 import com.reliableplugins.currency.model.CurrencyModel;
 import com.reliableplugins.currency.service.CurrencyService;
+import com.reliableplugins.currency.storage.BoundedStorageExecutor;
+import com.reliableplugins.currency.storage.CurrencyStorage;
+import com.reliableplugins.currency.storage.StorageExecutors;
 import com.reliableplugins.currency.storage.StorageFactory;
+import com.reliableplugins.currency.storage.StorageLane;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class HyCurrencyPlugin extends JavaPlugin {
 
     private static volatile HyCurrencyPlugin instance;
 
     private final Map<String, CurrencyModel> currencyDataMap = new ConcurrentHashMap<>();
-    private ExecutorService dbExecutor;
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private StorageExecutors storageExecutors;
 
     // Configurations
     private PluginConfig pluginConfig;
-    private CurrencyConfig currencyConfig;
+    // Replaced as a whole on reload, read without locking
+    private volatile CurrencyConfig currencyConfig;
+    private final AtomicReference<CompletableFuture<CurrencyConfig>> pendingReload = new AtomicReference<>();
 
     private CurrencyManager currencyManager;
     private Economy economy;
@@ -74,7 +84,7 @@ public class HyCurrencyPlugin extends JavaPlugin {
         if (this.economy == null) {
             throw new IllegalStateException("Economy failed to initialize in HyCurrency");
         }
-        EconomyProviderRegistry.register(this.economy);
+        EconomyProviderRegistry.register(new MeteredEconomy(this.economy, metrics));
 
         getLogger().atInfo().log("HyCurrency economy registered");
     }
@@ -82,18 +92,14 @@ public class HyCurrencyPlugin extends JavaPlugin {
     @Override
     protected void shutdown() {
         super.shutdown();
+        if (economy instanceof CurrencyService service) {
+            service.shutdown();
+        }
         if (currencyManager != null) {
             currencyManager.shutdown();
         }
-        if (dbExecutor != null) {
-            dbExecutor.shutdown();
-            try {
-                if (!dbExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
-                    dbExecutor.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                dbExecutor.shutdownNow();
-            }
+        if (storageExecutors != null) {
+            storageExecutors.shutdown();
         }
 
         // clear static instance
@@ -121,12 +127,69 @@ public class HyCurrencyPlugin extends JavaPlugin {
     }
 
     private void initializeStorage() {
-        this.dbExecutor = Executors.newFixedThreadPool(pluginConfig.getStorageThreads());
-        StorageFactory storageFactory = new StorageFactory(this, pluginConfig);
-        this.currencyManager = new CurrencyManager(this, storageFactory.createAndInitialize());
+        CurrencyStorage storage = new MeteredStorage(createStorage(), metrics);
+        this.storageExecutors = new StorageExecutors(this, storage);
+        this.currencyManager = new CurrencyManager(this, storage);
+        this.currencyManager.start();
         economy = new CurrencyService(this, currencyManager);
     }
 
+    /**
+     * @return The initialized storage backend selected in config.json
+     */
+    protected CurrencyStorage createStorage() {
+        return new StorageFactory(this, pluginConfig).createAndInitialize();
+    }
+
+    /**
+     * Re-read currency.json and swap it in without a restart. Parsing and any schema changes
+     * run on a background storage thread; only once both succeed does the new configuration
+     * replace the old one. On failure the current configuration stays in place.
+     * Concurrent calls share one reload.
+     *
+     * @return A future completing with the configuration now in use
+     */
+    public CompletableFuture<CurrencyConfig> reloadCurrencyConfig() {
+        CompletableFuture<CurrencyConfig> reload = new CompletableFuture<>();
+        CompletableFuture<CurrencyConfig> existing = pendingReload.compareAndExchange(null, reload);
+        if (existing != null) {
+            return existing;
+        }
+
+        storageExecutors.supplyAsync(StorageLane.BACKGROUND, "reload:currencies", () -> {
+            CurrencyConfig next;
+            try {
+                next = CurrencyConfig.reload(getDataDirectory());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            currencyManager.getStorage().prepareCurrencies(next);
+            return next;
+        }).whenComplete((next, ex) -> {
+            try {
+                if (ex != null) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof UncheckedIOException io) {
+                        cause = io.getCause();
+                    }
+                    getLogger().atSevere().log("Failed to reload currency config, keeping the current one: " + cause.getMessage());
+                    reload.completeExceptionally(cause);
+                    return;
+                }
+                this.currencyConfig = next;
+                currencyManager.applyCurrencyConfig(next);
+                getLogger().atInfo().log("Reloaded " + next.getCurrencies().size() + " currencies from currency.json");
+                reload.complete(next);
+            } catch (RuntimeException e) {
+                getLogger().atSevere().log("Failed to apply the reloaded currency config: " + e.getMessage());
+                reload.completeExceptionally(e);
+            } finally {
+                pendingReload.set(null);
+            }
+        });
+        return reload;
+    }
+
     public PluginConfig getPluginConfig() {
         return pluginConfig;
     }
@@ -135,14 +198,25 @@ public class HyCurrencyPlugin extends JavaPlugin {
         return currencyConfig;
     }
 
-    public ExecutorService getDbExecutor() {
-        return dbExecutor;
+    /**
+     * @return The executor storage tasks of the given lane run on
+     */
+    public BoundedStorageExecutor getStorageExecutor(StorageLane lane) {
+        return storageExecutors.get(lane);
+    }
+
+    public StorageExecutors getStorageExecutors() {
+        return storageExecutors;
     }
 
     public Map<String, CurrencyModel> getCurrencyDataMap() {
         return currencyDataMap;
     }
 
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
     public CurrencyManager getCurrencyManager() {
         return currencyManager;
     }
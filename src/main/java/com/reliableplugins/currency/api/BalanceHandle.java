@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.api;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * Fast path to one online player's balance in one currency, for callers that change balances
+ * every tick. Amounts are {@code long} minor units (see {@link #getDecimals()}), results are
+ * {@link EconomyStatus} codes and the resulting balance is written to a caller-supplied
+ * {@link BalanceHolder}, so no response objects are created.
+ * <p>
+ * Like the sync {@link Economy} methods, handles only work while the player is online and
+ * should be used from the server thread. A handle may be kept across the player leaving and
+ * rejoining; it reports {@link EconomyStatus#PLAYER_NOT_ONLINE} while they are away.
+ */
+public interface BalanceHandle {
+
+    @Nonnull
+    UUID getPlayerId();
+
+    @Nonnull
+    String getCurrency();
+
+    /**
+     * @return The number of decimal places one minor unit stands for, e.g. 2 when amounts are in cents
+     */
+    int getDecimals();
+
+    /**
+     * Write the current balance to {@code out}.
+     */
+    int balance(@Nonnull BalanceHolder out);
+
+    /**
+     * Add a positive amount and write the new balance to {@code out}.
+     */
+    int deposit(long minorUnits, @Nonnull BalanceHolder out);
+
+    /**
+     * Remove a positive amount and write the new balance to {@code out}; on
+     * {@link EconomyStatus#INSUFFICIENT_FUNDS} the unchanged balance is written instead.
+     */
+    int withdraw(long minorUnits, @Nonnull BalanceHolder out);
+
+    /**
+     * Replace the balance with a non-negative amount and write it to {@code out}.
+     */
+    int set(long minorUnits, @Nonnull BalanceHolder out);
+
+}
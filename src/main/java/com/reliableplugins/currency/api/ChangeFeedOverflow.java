@@ -0,0 +1,41 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.api;
+
+/**
+ * What a balance change subscription does when its subscriber falls so far behind that its buffer is full.
+ */
+public enum ChangeFeedOverflow {
+
+    /**
+     * Discard the oldest buffered change to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Discard the new change.
+     */
+    DROP_NEWEST,
+
+    /**
+     * End the subscription with an error.
+     */
+    DISCONNECT
+
+}
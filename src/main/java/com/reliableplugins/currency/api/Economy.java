@@ -19,11 +19,14 @@
 package com.reliableplugins.currency.api;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 /**
  * Economy API for currency management.
@@ -31,9 +34,12 @@ import java.util.concurrent.CompletableFuture;
  * This API provides two types of methods:
  * <ul>
  *     <li><b>Sync methods</b> - For online players only. These methods will return
- *     {@link EconomyResponseType#PLAYER_NOT_ONLINE} if the player is offline.</li>
+ *     {@link EconomyResponseType#PLAYER_NOT_ONLINE} if the player is offline, or
+ *     {@link EconomyResponseType#ACCOUNT_LOADING} if they just joined and their account
+ *     is still being loaded.</li>
  *     <li><b>Async methods</b> - For any player (online or offline). These return
- *     {@link CompletableFuture} and may involve database operations.</li>
+ *     {@link CompletableFuture} and may involve database operations. Calls for an account
+ *     that is still loading wait for that load instead of reading storage again.</li>
  * </ul>
  */
 public interface Economy {
@@ -73,6 +79,20 @@ public interface Economy {
     @Nonnull
     String format(@Nonnull BigDecimal amount, @Nonnull String currency);
 
+    /**
+     * Formats an amount for display into a caller-owned builder, which can be reused
+     * across calls to avoid building intermediate strings.
+     *
+     * @param out      The builder to append to
+     * @param amount   The amount to format
+     * @param currency The currency identifier
+     * @return The builder
+     */
+    @Nonnull
+    default StringBuilder format(@Nonnull StringBuilder out, @Nonnull BigDecimal amount, @Nonnull String currency) {
+        return out.append(format(amount, currency));
+    }
+
     /**
      * Formats an amount for display.
      *
@@ -134,6 +154,35 @@ public interface Economy {
      */
     boolean isPlayerOnline(@Nonnull UUID playerId);
 
+    /**
+     * Checks if the player has joined but their account is still being loaded.
+     *
+     * @param playerId The player's UUID
+     * @return true if sync operations will return {@link EconomyResponseType#ACCOUNT_LOADING}
+     */
+    boolean isAccountLoading(@Nonnull UUID playerId);
+
+    /**
+     * Waits for a joining player's account to finish loading.
+     *
+     * @param playerId The player's UUID
+     * @return A future completing with true once the player is online with their account
+     * loaded, or with false if they are not online or the load failed
+     */
+    @Nonnull
+    CompletableFuture<Boolean> whenAccountReady(@Nonnull UUID playerId);
+
+    /**
+     * Gets a fast-path handle to an online player's balance in one currency. Resolve it once and
+     * reuse it for hot callers such as per-tick upkeep; the handle stays valid across rejoins.
+     *
+     * @param playerId The player's UUID
+     * @param currency The currency identifier
+     * @return The handle
+     */
+    @Nonnull
+    BalanceHandle getBalanceHandle(@Nonnull UUID playerId, @Nonnull String currency);
+
     /**
      * Gets the balance of an online player.
      * <p>
@@ -674,10 +723,24 @@ public interface Economy {
      * This only includes online players.
      *
      * @param currency The currency identifier
+     * @param limit    Maximum number of results to return
+     * @return Map of player UUID to balance, sorted descending
+     */
+    @Nonnull
+    Map<UUID, BigDecimal> getTopBalances(@Nonnull String currency, int limit);
+
+    /**
+     * Gets every positive balance for a currency from currently cached players.
+     * <p>
+     * Prefer {@link #getTopBalances(String, int)}, which only ranks the entries it returns.
+     *
+     * @param currency The currency identifier
      * @return Map of player UUID to balance, sorted descending
      */
     @Nonnull
-    Map<UUID, BigDecimal> getTopBalances(@Nonnull String currency);
+    default Map<UUID, BigDecimal> getTopBalances(@Nonnull String currency) {
+        return getTopBalances(currency, Integer.MAX_VALUE);
+    }
 
     @Nonnull
     default Map<UUID, BigDecimal> getTopBalances() {
@@ -687,11 +750,14 @@ public interface Economy {
     /**
      * Gets the top balances for a currency from all players (online and offline).
      * <p>
-     * This queries the database and includes all players.
+     * For leaderboard currencies this is served from a periodically refreshed
+     * snapshot and may lag recent changes; other currencies query the database.
+     * Entries are keyed by player UUID, since names are neither unique nor always
+     * known; {@link #getLeaderboardPageAsync(String, int, int)} also returns names.
      *
      * @param currency The currency identifier
      * @param limit    Maximum number of results to return
-     * @return CompletableFuture resolving to a map of player name to balance, sorted descending
+     * @return CompletableFuture resolving to a map of player UUID (as a string) to balance, sorted descending
      */
     @Nonnull
     CompletableFuture<Map<String, BigDecimal>> getTopBalancesAsync(@Nonnull String currency, int limit);
@@ -700,7 +766,7 @@ public interface Economy {
      * Gets the top balances for a currency from all players with default limit of 10.
      *
      * @param currency The currency identifier
-     * @return CompletableFuture resolving to a map of player name to balance, sorted descending
+     * @return CompletableFuture resolving to a map of player UUID (as a string) to balance, sorted descending
      */
     @Nonnull
     default CompletableFuture<Map<String, BigDecimal>> getTopBalancesAsync(@Nonnull String currency) {
@@ -711,7 +777,7 @@ public interface Economy {
      * Gets the top balances for the default currency from all players.
      *
      * @param limit Maximum number of results to return
-     * @return CompletableFuture resolving to a map of player name to balance, sorted descending
+     * @return CompletableFuture resolving to a map of player UUID (as a string) to balance, sorted descending
      */
     @Nonnull
     default CompletableFuture<Map<String, BigDecimal>> getTopBalancesAsync(int limit) {
@@ -721,11 +787,146 @@ public interface Economy {
     /**
      * Gets the top balances for the default currency with default limit of 10.
      *
-     * @return CompletableFuture resolving to a map of player name to balance, sorted descending
+     * @return CompletableFuture resolving to a map of player UUID (as a string) to balance, sorted descending
      */
     @Nonnull
     default CompletableFuture<Map<String, BigDecimal>> getTopBalancesAsync() {
         return getTopBalancesAsync(getDefaultCurrency(), 10);
     }
 
+    /**
+     * Gets an online player's rank on a currency leaderboard.
+     * <p>
+     * This only ranks online players and is served from memory.
+     *
+     * @param playerId The player's UUID
+     * @param currency The currency identifier
+     * @return The 1-based rank, or -1 if the player is not ranked or the currency has no leaderboard
+     */
+    int getRank(@Nonnull UUID playerId, @Nonnull String currency);
+
+    /**
+     * Gets an online player's rank on the default currency leaderboard.
+     *
+     * @param playerId The player's UUID
+     * @return The 1-based rank, or -1 if the player is not ranked
+     */
+    default int getRank(@Nonnull UUID playerId) {
+        return getRank(playerId, getDefaultCurrency());
+    }
+
+    /**
+     * Gets a page of a currency leaderboard from online players.
+     *
+     * @param currency The currency identifier
+     * @param offset   The 0-based position of the first entry
+     * @param limit    Maximum number of entries to return
+     * @return The entries, highest balance first
+     */
+    @Nonnull
+    List<LeaderboardEntry> getLeaderboardPage(@Nonnull String currency, int offset, int limit);
+
+    /**
+     * Gets the online players whose balance lies within a range.
+     *
+     * @param currency The currency identifier
+     * @param min      The minimum balance (inclusive)
+     * @param max      The maximum balance (inclusive)
+     * @param limit    Maximum number of entries to return
+     * @return The entries, highest balance first
+     */
+    @Nonnull
+    List<LeaderboardEntry> getAccountsInRange(@Nonnull String currency, @Nonnull BigDecimal min,
+                                              @Nonnull BigDecimal max, int limit);
+
+    /**
+     * Gets any player's rank on a currency leaderboard asynchronously.
+     * <p>
+     * This queries the database and ranks all players. Other players are ranked
+     * by their last saved balance.
+     *
+     * @param playerId The player's UUID
+     * @param currency The currency identifier
+     * @return CompletableFuture resolving to the 1-based rank, or -1 if the player is not ranked
+     */
+    @Nonnull
+    CompletableFuture<Integer> getRankAsync(@Nonnull UUID playerId, @Nonnull String currency);
+
+    /**
+     * Gets any player's rank on the default currency leaderboard asynchronously.
+     *
+     * @param playerId The player's UUID
+     * @return CompletableFuture resolving to the 1-based rank, or -1 if the player is not ranked
+     */
+    @Nonnull
+    default CompletableFuture<Integer> getRankAsync(@Nonnull UUID playerId) {
+        return getRankAsync(playerId, getDefaultCurrency());
+    }
+
+    /**
+     * Gets a page of a currency leaderboard from all players asynchronously.
+     * <p>
+     * Pages within the leaderboard snapshot are served from memory; deeper pages query the database.
+     *
+     * @param currency The currency identifier
+     * @param offset   The 0-based position of the first entry
+     * @param limit    Maximum number of entries to return
+     * @return CompletableFuture resolving to the entries, highest balance first
+     */
+    @Nonnull
+    CompletableFuture<List<LeaderboardEntry>> getLeaderboardPageAsync(@Nonnull String currency, int offset, int limit);
+
+    /**
+     * Gets the page of a currency leaderboard that follows a cursor asynchronously.
+     * <p>
+     * Pass a null cursor for the first page, then {@link LeaderboardPage#nextCursor()} of each page to get
+     * the next one. Unlike an offset, a cursor is resolved with a single index seek, so deep pages cost
+     * the same as the first.
+     *
+     * @param currency The currency identifier
+     * @param after    The cursor of the previous page, or null for the first page
+     * @param limit    Maximum number of entries to return
+     * @return CompletableFuture resolving to the page, highest balance first
+     */
+    @Nonnull
+    CompletableFuture<LeaderboardPage> getLeaderboardPageAsync(@Nonnull String currency, @Nullable LeaderboardCursor after, int limit);
+
+    /**
+     * Gets all players whose balance lies within a range asynchronously.
+     *
+     * @param currency The currency identifier
+     * @param min      The minimum balance (inclusive)
+     * @param max      The maximum balance (inclusive)
+     * @param limit    Maximum number of entries to return
+     * @return CompletableFuture resolving to the entries, highest balance first
+     */
+    @Nonnull
+    CompletableFuture<List<LeaderboardEntry>> getAccountsInRangeAsync(@Nonnull String currency, @Nonnull BigDecimal min,
+                                                                      @Nonnull BigDecimal max, int limit);
+
+    /**
+     * Streams balance changes from every source: sync and async operations, transfers,
+     * commands and changes to offline accounts. Each subscriber gets its own buffer, so a
+     * slow subscriber only ever loses its own changes and never delays the economy.
+     *
+     * @param currency   Only publish changes to this currency, or null for all currencies
+     * @param playerId   Only publish changes to this player's account, or null for all accounts
+     * @param bufferSize The number of changes buffered per subscriber beyond what it has requested
+     * @param overflow   What to do when a subscriber's buffer is full
+     * @return A publisher that may be subscribed to any number of times
+     */
+    @Nonnull
+    Flow.Publisher<BalanceChange> getBalanceChanges(@Nullable String currency, @Nullable UUID playerId,
+                                                    int bufferSize, @Nonnull ChangeFeedOverflow overflow);
+
+    /**
+     * Streams balance changes with a buffer of 256 changes per subscriber, dropping the oldest on overflow.
+     *
+     * @see #getBalanceChanges(String, UUID, int, ChangeFeedOverflow)
+     */
+    @Nonnull
+    default Flow.Publisher<BalanceChange> getBalanceChanges(@Nullable String currency, @Nullable UUID playerId) {
+        return getBalanceChanges(currency, playerId, 256, ChangeFeedOverflow.DROP_OLDEST);
+    }
+
 }
@@ -24,6 +24,12 @@ import java.math.BigDecimal;
 
 public class EconomyResponse {
 
+    // Responses carry no per-call data for these failures, so one shared instance each avoids allocating on hot paths
+    private static final EconomyResponse PLAYER_NOT_ONLINE = failure(EconomyResponseType.PLAYER_NOT_ONLINE, "Player is not online");
+    private static final EconomyResponse ACCOUNT_LOADING = failure(EconomyResponseType.ACCOUNT_LOADING, "Account is still loading");
+    private static final EconomyResponse ACCOUNT_NOT_FOUND = failure(EconomyResponseType.ACCOUNT_NOT_FOUND, "Account does not exist");
+    private static final EconomyResponse INVALID_AMOUNT = failure(EconomyResponseType.INVALID_AMOUNT, "Amount must be positive");
+
     private final EconomyResponseType type;
     private final BigDecimal amount;
     private final BigDecimal balance;
@@ -126,11 +132,15 @@ public class EconomyResponse {
     }
 
     public static EconomyResponse playerNotOnline() {
-        return failure(EconomyResponseType.PLAYER_NOT_ONLINE, "Player is not online");
+        return PLAYER_NOT_ONLINE;
+    }
+
+    public static EconomyResponse accountLoading() {
+        return ACCOUNT_LOADING;
     }
 
     public static EconomyResponse accountNotFound() {
-        return failure(EconomyResponseType.ACCOUNT_NOT_FOUND, "Account does not exist");
+        return ACCOUNT_NOT_FOUND;
     }
 
     public static EconomyResponse invalidCurrency(@Nonnull String currency) {
@@ -138,13 +148,17 @@ public class EconomyResponse {
     }
 
     public static EconomyResponse invalidAmount() {
-        return failure(EconomyResponseType.INVALID_AMOUNT, "Amount must be positive");
+        return INVALID_AMOUNT;
     }
 
     public static EconomyResponse internalError(@Nullable String message) {
         return failure(EconomyResponseType.INTERNAL_ERROR, message);
     }
 
+    public static EconomyResponse storageBusy(@Nullable String message) {
+        return failure(EconomyResponseType.STORAGE_BUSY, message);
+    }
+
     @Override
     public String toString() {
         return "EconomyResponse{" +
@@ -40,6 +40,11 @@ public enum EconomyResponseType {
      */
     PLAYER_NOT_ONLINE,
 
+    /**
+     * The player is online but their account is still loading (for sync operations).
+     */
+    ACCOUNT_LOADING,
+
     /**
      * Insufficient funds to complete the operation.
      */
@@ -58,7 +63,12 @@ public enum EconomyResponseType {
     /**
      * An internal error occurred during the operation.
      */
-    INTERNAL_ERROR
+    INTERNAL_ERROR,
+
+    /**
+     * Storage is overloaded and the operation was not applied; it is safe to retry later.
+     */
+    STORAGE_BUSY
 
 }
 
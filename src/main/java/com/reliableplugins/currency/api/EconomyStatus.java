@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.api;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Primitive status codes returned by {@link BalanceHandle} operations, one per {@link EconomyResponseType}.
+ */
+public final class EconomyStatus {
+
+    public static final int SUCCESS = 0;
+    public static final int FAILURE = 1;
+    public static final int ACCOUNT_NOT_FOUND = 2;
+    public static final int PLAYER_NOT_ONLINE = 3;
+    public static final int ACCOUNT_LOADING = 4;
+    public static final int INSUFFICIENT_FUNDS = 5;
+    public static final int INVALID_CURRENCY = 6;
+    public static final int INVALID_AMOUNT = 7;
+    public static final int INTERNAL_ERROR = 8;
+    public static final int STORAGE_BUSY = 9;
+
+    private static final EconomyResponseType[] TYPES = {
+            EconomyResponseType.SUCCESS,
+            EconomyResponseType.FAILURE,
+            EconomyResponseType.ACCOUNT_NOT_FOUND,
+            EconomyResponseType.PLAYER_NOT_ONLINE,
+            EconomyResponseType.ACCOUNT_LOADING,
+            EconomyResponseType.INSUFFICIENT_FUNDS,
+            EconomyResponseType.INVALID_CURRENCY,
+            EconomyResponseType.INVALID_AMOUNT,
+            EconomyResponseType.INTERNAL_ERROR,
+            EconomyResponseType.STORAGE_BUSY
+    };
+
+    private EconomyStatus() {
+    }
+
+    /**
+     * @return The response type a status code stands for, or {@link EconomyResponseType#FAILURE} for unknown codes
+     */
+    @Nonnull
+    public static EconomyResponseType toType(int status) {
+        return status >= 0 && status < TYPES.length ? TYPES[status] : EconomyResponseType.FAILURE;
+    }
+
+    public static boolean isSuccess(int status) {
+        return status == SUCCESS;
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.api;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Position of a leaderboard row, used to fetch the rows that follow it
+ * without counting through every row before it.
+ *
+ * @param amount   The balance of the last row already read
+ * @param playerId The UUID of the last row already read
+ */
+public record LeaderboardCursor(@Nonnull BigDecimal amount, @Nonnull UUID playerId) {
+
+    @Nonnull
+    public static LeaderboardCursor of(@Nonnull LeaderboardEntry entry) {
+        return new LeaderboardCursor(entry.amount(), entry.playerId());
+    }
+
+}
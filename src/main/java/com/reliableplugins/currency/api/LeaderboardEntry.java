@@ -0,0 +1,39 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.api;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * A single row of a currency leaderboard.
+ *
+ * @param playerId   The player's UUID
+ * @param playerName The player's name, if the source of the row knows it
+ * @param amount     The player's balance for the leaderboard currency
+ */
+public record LeaderboardEntry(@Nonnull UUID playerId, @Nullable String playerName, @Nonnull BigDecimal amount) {
+
+    public LeaderboardEntry(@Nonnull UUID playerId, @Nonnull BigDecimal amount) {
+        this(playerId, null, amount);
+    }
+
+}
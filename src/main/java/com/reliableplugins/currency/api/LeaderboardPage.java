@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.api;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * A page of leaderboard rows.
+ *
+ * @param entries    The rows, highest balance first
+ * @param nextCursor The cursor to pass to fetch the following page, or null if this is the last page
+ */
+public record LeaderboardPage(@Nonnull List<LeaderboardEntry> entries, @Nullable LeaderboardCursor nextCursor) {
+
+    public static final LeaderboardPage EMPTY = new LeaderboardPage(List.of(), null);
+
+    public LeaderboardPage {
+        entries = List.copyOf(entries);
+    }
+
+    /**
+     * Create a page from rows fetched with the given limit; a full page may have more rows after it.
+     */
+    @Nonnull
+    public static LeaderboardPage of(@Nonnull List<LeaderboardEntry> entries, int limit) {
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        LeaderboardCursor next = entries.size() >= limit ? LeaderboardCursor.of(entries.get(entries.size() - 1)) : null;
+        return new LeaderboardPage(entries, next);
+    }
+
+}
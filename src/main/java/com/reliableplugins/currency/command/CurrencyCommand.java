@@ -40,12 +40,14 @@ public class CurrencyCommand extends AbstractAsyncCommand {
         this.addSubCommand(new CurrencyRemoveCommand(plugin));
         this.addSubCommand(new CurrencyTopCommand(plugin));
         this.addSubCommand(new CurrencyListCommand(plugin));
+        this.addSubCommand(new CurrencyReloadCommand(plugin));
+        this.addSubCommand(new CurrencyStatsCommand(plugin));
     }
 
     @Nonnull
     @Override
     protected CompletableFuture<Void> executeAsync(@Nonnull CommandContext commandContext) {
-        commandContext.sendMessage(Message.raw("Usage: /currency <balance|pay|set|add|remove|top|list> [args...]"));
+        commandContext.sendMessage(Message.raw("Usage: /currency <balance|pay|set|add|remove|top|list|reload|stats> [args...]"));
         return CompletableFuture.completedFuture(null);
     }
 
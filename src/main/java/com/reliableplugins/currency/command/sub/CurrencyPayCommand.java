@@ -19,6 +19,7 @@
 package com.reliableplugins.currency.command.sub;
 
 import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.model.CurrencyManager;
 import com.reliableplugins.currency.model.CurrencyModel;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.AbstractCommand;
@@ -32,7 +33,6 @@ import com.hypixel.hytale.server.core.universe.Universe;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public class CurrencyPayCommand extends AbstractCommand {
@@ -80,31 +80,36 @@ public class CurrencyPayCommand extends AbstractCommand {
             return CompletableFuture.completedFuture(null);
         }
 
-        Map<String, CurrencyModel> currencyDataMap = plugin.getCurrencyDataMap();
+        CurrencyManager currencyManager = plugin.getCurrencyManager();
 
-        CurrencyModel senderModel = currencyDataMap.computeIfAbsent(
-                selfRef.getUuid().toString(), k -> new CurrencyModel()
-        );
-        CurrencyModel targetModel = currencyDataMap.computeIfAbsent(
-                target.getUuid().toString(), k -> new CurrencyModel()
-        );
+        CompletableFuture<CurrencyModel> senderFuture = currencyManager.getLoadedPlayerData(selfRef.getUuid().toString());
+        CompletableFuture<CurrencyModel> targetFuture = currencyManager.getLoadedPlayerData(target.getUuid().toString());
+        return senderFuture.thenAcceptBoth(targetFuture, (senderModel, targetModel) -> {
+            if (senderModel == null) {
+                commandContext.sendMessage(Message.raw("Your currency account is not loaded."));
+                return;
+            }
+            if (targetModel == null) {
+                commandContext.sendMessage(Message.raw("No currency account is loaded for " + target.getUsername() + "."));
+                return;
+            }
 
-        BigDecimal senderBalance = senderModel.getCurrency(currency);
+            BigDecimal senderBalance = senderModel.getCurrency(currency);
 
-        if (senderBalance.compareTo(amount) < 0) {
-            commandContext.sendMessage(Message.raw(
-                    "Insufficient funds. You have " + senderBalance + " " + currency + "."
-            ));
-            return CompletableFuture.completedFuture(null);
-        }
+            if (senderBalance.compareTo(amount) < 0) {
+                commandContext.sendMessage(Message.raw(
+                        "Insufficient funds. You have " + senderBalance + " " + currency + "."
+                ));
+                return;
+            }
 
-        senderModel.addAmount(currency, amount.negate());
-        targetModel.addAmount(currency, amount);
+            senderModel.addAmount(currency, amount.negate());
+            targetModel.addAmount(currency, amount);
 
-        commandContext.sendMessage(Message.raw(
-                "Paid " + amount + " " + currency + " to " + target.getUsername() + "."
-        ));
-        return CompletableFuture.completedFuture(null);
+            commandContext.sendMessage(Message.raw(
+                    "Paid " + amount + " " + currency + " to " + target.getUsername() + "."
+            ));
+        });
     }
 
 }
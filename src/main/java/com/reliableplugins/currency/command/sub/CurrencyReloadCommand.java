@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.command.sub;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.AbstractCommand;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+
+public class CurrencyReloadCommand extends AbstractCommand {
+
+    private final HyCurrencyPlugin plugin;
+
+    public CurrencyReloadCommand(HyCurrencyPlugin plugin) {
+        super("reload", "Reload currency.json without a restart");
+        this.plugin = plugin;
+    }
+
+    @Nullable
+    @Override
+    public CompletableFuture<Void> execute(@Nonnull CommandContext ctx) {
+        ctx.sendMessage(Message.raw("Reloading currencies..."));
+        return plugin.reloadCurrencyConfig().handle((config, ex) -> {
+            if (ex != null) {
+                ctx.sendMessage(Message.raw("Failed to reload currencies, the previous configuration is still in use: " + ex.getMessage()));
+            } else {
+                ctx.sendMessage(Message.raw("Reloaded " + config.getCurrencies().size() + " currencies."));
+            }
+            return null;
+        });
+    }
+}
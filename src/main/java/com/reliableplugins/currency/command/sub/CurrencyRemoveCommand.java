@@ -19,7 +19,7 @@
 package com.reliableplugins.currency.command.sub;
 
 import com.reliableplugins.currency.HyCurrencyPlugin;
-import com.reliableplugins.currency.model.CurrencyModel;
+import com.reliableplugins.currency.model.CurrencyManager;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.AbstractCommand;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
@@ -30,7 +30,6 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public class CurrencyRemoveCommand extends AbstractCommand {
@@ -61,17 +60,19 @@ public class CurrencyRemoveCommand extends AbstractCommand {
             return CompletableFuture.completedFuture(null);
         }
 
-        Map<String, CurrencyModel> currencyDataMap = plugin.getCurrencyDataMap();
+        CurrencyManager currencyManager = plugin.getCurrencyManager();
 
-        CurrencyModel targetModel = currencyDataMap.computeIfAbsent(
-            target.getUuid().toString(), k -> new CurrencyModel()
-        );
+        return currencyManager.getLoadedPlayerData(target.getUuid().toString()).thenAccept(targetModel -> {
+            if (targetModel == null) {
+                commandContext.sendMessage(Message.raw("No currency account is loaded for " + target.getUsername() + "."));
+                return;
+            }
 
-        targetModel.addAmount(currency, amount.negate());
-        BigDecimal newBalance = targetModel.getCurrency(currency);
+            targetModel.addAmount(currency, amount.negate());
+            BigDecimal newBalance = targetModel.getCurrency(currency);
 
-        commandContext.sendMessage(Message.raw("Removed " + amount + " " + currency + " from " + target.getUsername() + ". New balance: " + newBalance));
-        return CompletableFuture.completedFuture(null);
+            commandContext.sendMessage(Message.raw("Removed " + amount + " " + currency + " from " + target.getUsername() + ". New balance: " + newBalance));
+        });
     }
 }
 
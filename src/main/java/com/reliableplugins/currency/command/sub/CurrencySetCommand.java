@@ -19,7 +19,7 @@
 package com.reliableplugins.currency.command.sub;
 
 import com.reliableplugins.currency.HyCurrencyPlugin;
-import com.reliableplugins.currency.model.CurrencyModel;
+import com.reliableplugins.currency.model.CurrencyManager;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.AbstractCommand;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
@@ -30,7 +30,6 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public class CurrencySetCommand extends AbstractCommand {
@@ -61,16 +60,18 @@ public class CurrencySetCommand extends AbstractCommand {
             return CompletableFuture.completedFuture(null);
         }
 
-        Map<String, CurrencyModel> currencyDataMap = plugin.getCurrencyDataMap();
+        CurrencyManager currencyManager = plugin.getCurrencyManager();
 
-        CurrencyModel targetModel = currencyDataMap.computeIfAbsent(
-            target.getUuid().toString(), k -> new CurrencyModel()
-        );
+        return currencyManager.getLoadedPlayerData(target.getUuid().toString()).thenAccept(targetModel -> {
+            if (targetModel == null) {
+                commandContext.sendMessage(Message.raw("No currency account is loaded for " + target.getUsername() + "."));
+                return;
+            }
 
-        targetModel.setCurrency(currency, amount);
+            targetModel.setCurrency(currency, amount);
 
-        commandContext.sendMessage(Message.raw("Set " + target.getUsername() + "'s " + currency + " balance to " + amount + "."));
-        return CompletableFuture.completedFuture(null);
+            commandContext.sendMessage(Message.raw("Set " + target.getUsername() + "'s " + currency + " balance to " + amount + "."));
+        });
     }
 }
 
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.command.sub;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.metrics.HitRatio;
+import com.reliableplugins.currency.metrics.LatencyHistogram;
+import com.reliableplugins.currency.metrics.MetricsRegistry;
+import com.reliableplugins.currency.metrics.RateCounter;
+import com.reliableplugins.currency.model.CurrencyManager;
+import com.reliableplugins.currency.storage.BoundedStorageExecutor;
+import com.reliableplugins.currency.storage.StorageLane;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.AbstractCommand;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class CurrencyStatsCommand extends AbstractCommand {
+
+    private static final int RATE_WINDOW_SECONDS = 10;
+
+    private final HyCurrencyPlugin plugin;
+
+    public CurrencyStatsCommand(HyCurrencyPlugin plugin) {
+        super("stats", "Show economy performance metrics");
+        this.addAliases("metrics");
+        this.plugin = plugin;
+    }
+
+    @Nullable
+    @Override
+    public CompletableFuture<Void> execute(@Nonnull CommandContext ctx) {
+        MetricsRegistry metrics = plugin.getMetrics();
+        CurrencyManager currencyManager = plugin.getCurrencyManager();
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("=== HyCurrency Stats (uptime ").append(formatDuration(metrics.getUptimeMillis())).append(") ===\n");
+        sb.append("Accounts: ").append(plugin.getCurrencyDataMap().size()).append(" online, ")
+                .append(currencyManager.getLoadingCount()).append(" loading, ")
+                .append(currencyManager.getRetainedCount()).append(" retained\n");
+
+        Map<String, RateCounter> operations = metrics.getOperations();
+        Map<String, LatencyHistogram> economyLatencies = metrics.getEconomyLatencies();
+        sb.append("Economy calls (last ").append(RATE_WINDOW_SECONDS).append("s):\n");
+        if (operations.isEmpty()) {
+            sb.append("  none yet\n");
+        }
+        operations.forEach((name, rate) -> {
+            sb.append("  ").append(name).append(": ")
+                    .append(String.format(Locale.ROOT, "%.1f/s", rate.getRate(RATE_WINDOW_SECONDS)))
+                    .append(", ").append(rate.getTotal()).append(" total");
+            LatencyHistogram latency = economyLatencies.get(name);
+            if (latency != null) {
+                sb.append(", ");
+                appendLatency(sb, latency);
+            }
+            sb.append("\n");
+        });
+
+        Map<String, LatencyHistogram> storageLatencies = metrics.getStorageLatencies();
+        sb.append("Storage latency:\n");
+        if (storageLatencies.isEmpty()) {
+            sb.append("  none yet\n");
+        }
+        storageLatencies.forEach((name, latency) -> {
+            sb.append("  ").append(name).append(": ").append(latency.getCount()).append(" ops, ");
+            appendLatency(sb, latency);
+            sb.append("\n");
+        });
+
+        Map<String, HitRatio> caches = metrics.getCaches();
+        if (!caches.isEmpty()) {
+            sb.append("Caches:\n");
+            caches.forEach((name, ratio) -> sb.append("  ").append(name).append(": ")
+                    .append(String.format(Locale.ROOT, "%.1f%%", ratio.getRatio() * 100))
+                    .append(" hit (").append(ratio.getHits()).append("/").append(ratio.getHits() + ratio.getMisses()).append(")\n"));
+        }
+
+        sb.append("Storage lanes:\n");
+        for (StorageLane lane : StorageLane.values()) {
+            BoundedStorageExecutor executor = plugin.getStorageExecutor(lane);
+            sb.append("  ").append(lane.name().toLowerCase(Locale.ROOT)).append(": ")
+                    .append(executor.getQueueDepth()).append("/").append(executor.getCapacity()).append(" queued, ")
+                    .append(plugin.getStorageExecutors().getBudget(lane)).append(" threads, ")
+                    .append(executor.getRejectedCount()).append(" rejected, ")
+                    .append(executor.getCoalescedCount()).append(" coalesced, ")
+                    .append(executor.getCallerRunsCount()).append(" caller-runs\n");
+        }
+
+        String poolStats = currencyManager.getStorage().getPoolStats();
+        if (poolStats != null) {
+            sb.append("Connection pool: ").append(poolStats).append("\n");
+        }
+
+        ctx.sendMessage(Message.raw(sb.toString().trim()));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static void appendLatency(StringBuilder sb, LatencyHistogram latency) {
+        sb.append("p50 ").append(formatNanos(latency.getPercentileNanos(0.50)))
+                .append(" p99 ").append(formatNanos(latency.getPercentileNanos(0.99)))
+                .append(" max ").append(formatNanos(latency.getMaxNanos()));
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format(Locale.ROOT, "%.1fus", nanos / 1_000.0);
+        }
+        return String.format(Locale.ROOT, "%.1fms", nanos / 1_000_000.0);
+    }
+
+    private static String formatDuration(long millis) {
+        long hours = TimeUnit.MILLISECONDS.toHours(millis);
+        long minutes = TimeUnit.MILLISECONDS.toMinutes(millis) % 60;
+        long seconds = TimeUnit.MILLISECONDS.toSeconds(millis) % 60;
+        return hours > 0 ? hours + "h " + minutes + "m" : minutes + "m " + seconds + "s";
+    }
+}
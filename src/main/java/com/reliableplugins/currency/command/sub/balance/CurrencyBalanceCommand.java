@@ -20,13 +20,10 @@ package com.reliableplugins.currency.command.sub.balance;
 
 import com.reliableplugins.currency.HyCurrencyPlugin;
 import com.reliableplugins.currency.model.CurrencyMetadata;
-import com.reliableplugins.currency.model.CurrencyModel;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.AbstractCommand;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.entity.entities.Player;
-import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -59,28 +56,15 @@ public class CurrencyBalanceCommand extends AbstractCommand {
             return CompletableFuture.completedFuture(null);
         }
 
-        PlayerRef selfRef = Universe.get().getPlayer(ctx.sender().getUuid());
-        if (selfRef == null) {
-            ctx.sendMessage(Message.raw("Could not find your player account."));
-            return CompletableFuture.completedFuture(null);
-        }
-
-        return sendBalance(ctx, selfRef, true);
-    }
-
-    private CompletableFuture<Void> sendBalance(CommandContext ctx, PlayerRef target, boolean isSelf) {
-        UUID targetUuid = target.getUuid();
-        String targetName = target.getUsername();
-
-        CurrencyModel model = plugin.getCurrencyDataMap().get(targetUuid.toString());
-
-        if (model == null || model.getCurrencies().isEmpty()) {
-            ctx.sendMessage(Message.raw(isSelf ? "You have no currencies." : targetName + " has no currencies."));
-            return CompletableFuture.completedFuture(null);
-        }
+        UUID selfId = ctx.sender().getUuid();
+        return plugin.getCurrencyManager().getLoadedPlayerData(selfId.toString()).thenAccept(model -> {
+            if (model == null || model.getCurrencies().isEmpty()) {
+                ctx.sendMessage(Message.raw("You have no currencies."));
+                return;
+            }
 
-        ctx.sendMessage(Message.raw(formatBalances(targetName, model.getCurrencies(), isSelf)));
-        return CompletableFuture.completedFuture(null);
+            ctx.sendMessage(Message.raw(formatBalances(plugin.getCurrencyManager().getNameCache().resolve(selfId, null), model.getCurrencies(), true)));
+        });
     }
 
     private String formatBalances(String name, Map<String, BigDecimal> currencies, boolean isSelf) {
@@ -91,7 +75,7 @@ public class CurrencyBalanceCommand extends AbstractCommand {
                     BigDecimal amount = e.getValue();
                     CurrencyMetadata meta = plugin.getCurrencyConfig() == null ? null : plugin.getCurrencyConfig().getCurrency(currencyId);
                     if (meta != null) {
-                        return "  " + meta.getName() + ": " + meta.formatAmount(amount.toPlainString());
+                        return "  " + meta.getName() + ": " + meta.formatAmount(amount);
                     }
                     // fallback to id + raw amount
                     return "  " + currencyId + ": " + amount.toPlainString();
@@ -20,19 +20,18 @@ package com.reliableplugins.currency.command.sub.balance;
 
 import com.reliableplugins.currency.HyCurrencyPlugin;
 import com.reliableplugins.currency.model.CurrencyMetadata;
+import com.reliableplugins.currency.model.CurrencyManager;
 import com.reliableplugins.currency.model.CurrencyModel;
 import com.hypixel.hytale.server.core.Message;
-import com.hypixel.hytale.server.core.NameMatching;
 import com.hypixel.hytale.server.core.command.system.AbstractCommand;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
-import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -51,26 +50,29 @@ public class CurrencyBalanceOtherVariant extends AbstractCommand {
     @Override
     protected CompletableFuture<Void> execute(@Nonnull CommandContext ctx) {
         String targetName = playerArg.get(ctx);
-        PlayerRef target = Universe.get().getPlayerByUsername(targetName, NameMatching.EXACT_IGNORE_CASE);
-
-        PlayerRef selfRef = Universe.get().getPlayer(ctx.sender().getUuid());
-
-        // If player is online, use cached data
-        if (target != null) {
-            boolean isSelf = selfRef != null && target.getUuid().equals(selfRef.getUuid());
-            CurrencyModel model = plugin.getCurrencyDataMap().get(target.getUuid().toString());
-
-            if (model == null || model.getCurrencies().isEmpty()) {
-                ctx.sendMessage(Message.raw(isSelf ? "You have no currencies." : target.getUsername() + " has no currencies."));
-                return CompletableFuture.completedFuture(null);
-            }
-
-            sendBalanceMessage(ctx, target.getUsername(), model, isSelf);
-            return CompletableFuture.completedFuture(null);
+        CurrencyManager currencyManager = plugin.getCurrencyManager();
+        UUID targetId = currencyManager.getNameCache().findPlayer(targetName);
+
+        // Known name: the online account, else the retained or stored one by UUID
+        if (targetId != null) {
+            boolean isSelf = targetId.equals(ctx.sender().getUuid());
+            String displayName = currencyManager.getNameCache().resolve(targetId, targetName);
+            String playerUuid = targetId.toString();
+            return currencyManager.getLoadedPlayerData(playerUuid)
+                    .thenCompose(model -> model != null ? CompletableFuture.completedFuture(model) : currencyManager.loadOfflinePlayer(playerUuid))
+                    .thenAccept(model -> {
+                        if (model == null) {
+                            ctx.sendMessage(Message.raw("Player not found."));
+                        } else if (model.getCurrencies().isEmpty()) {
+                            ctx.sendMessage(Message.raw(isSelf ? "You have no currencies." : displayName + " has no currencies."));
+                        } else {
+                            sendBalanceMessage(ctx, displayName, model, isSelf);
+                        }
+                    });
         }
 
-        // Player is offline - load from database by name
-        return plugin.getCurrencyManager().getStorage().loadByNameAsync(targetName)
+        // Name not cached - look it up in the database
+        return currencyManager.getStorage().loadByNameAsync(targetName)
                 .thenAccept(model -> {
                     if (model == null) {
                         ctx.sendMessage(Message.raw("Player not found."));
@@ -96,7 +98,7 @@ public class CurrencyBalanceOtherVariant extends AbstractCommand {
                     BigDecimal amount = e.getValue();
                     CurrencyMetadata meta = plugin.getCurrencyConfig() == null ? null : plugin.getCurrencyConfig().getCurrency(currencyId);
                     if (meta != null) {
-                        return "  " + meta.getName() + ": " + meta.formatAmount(amount.toPlainString());
+                        return "  " + meta.getName() + ": " + meta.formatAmount(amount);
                     }
                     return "  " + currencyId + ": " + amount.toPlainString();
                 })
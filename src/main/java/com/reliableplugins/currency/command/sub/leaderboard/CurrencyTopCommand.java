@@ -19,18 +19,20 @@
 package com.reliableplugins.currency.command.sub.leaderboard;
 
 import com.reliableplugins.currency.HyCurrencyPlugin;
-import com.reliableplugins.currency.model.CurrencyModel;
+import com.reliableplugins.currency.api.Economy;
+import com.reliableplugins.currency.api.LeaderboardEntry;
+import com.reliableplugins.currency.leaderboard.LeaderboardSnapshot;
+import com.reliableplugins.currency.leaderboard.LeaderboardSnapshotService;
+import com.reliableplugins.currency.model.PlayerNameCache;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.AbstractCommand;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
-import com.hypixel.hytale.server.core.universe.Universe;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.math.BigDecimal;
-import java.util.*;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public class CurrencyTopCommand extends AbstractCommand {
@@ -67,47 +69,64 @@ public class CurrencyTopCommand extends AbstractCommand {
             return CompletableFuture.completedFuture(null);
         }
 
-        Map<String, CurrencyModel> currencyDataMap = plugin.getCurrencyDataMap();
-
-        // Build sorted list of entries
-        List<LeaderboardEntry> entries = new ArrayList<>();
-        for (Map.Entry<String, CurrencyModel> entry : currencyDataMap.entrySet()) {
-            BigDecimal amount = entry.getValue().getCurrency(currency);
-            if (amount.compareTo(BigDecimal.ZERO) > 0) {
-                entries.add(new LeaderboardEntry(entry.getKey(), amount));
-            }
+        // Only currencies with leaderboard enabled are indexed
+        if (!plugin.getCurrencyManager().getLeaderboardManager().isIndexed(currency)) {
+            ctx.sendMessage(Message.raw("No leaderboard available for currency: " + currency));
+            return CompletableFuture.completedFuture(null);
         }
 
-        // Sort by amount descending
-        entries.sort(Comparator.comparing(LeaderboardEntry::amount).reversed());
+        LeaderboardSnapshotService snapshots = plugin.getCurrencyManager().getLeaderboardSnapshots();
+        LeaderboardSnapshot snapshot = snapshots.getSnapshot(currency);
+        if (snapshot == null) {
+            ctx.sendMessage(Message.raw("The " + currency + " leaderboard is still loading, try again shortly."));
+            return CompletableFuture.completedFuture(null);
+        }
 
-        if (entries.isEmpty()) {
+        if (snapshot.size() == 0) {
             ctx.sendMessage(Message.raw("No entries found for currency: " + currency));
             return CompletableFuture.completedFuture(null);
         }
 
-        int totalPages = (int) Math.ceil((double) entries.size() / ENTRIES_PER_PAGE);
+        // Past the snapshot the total is unknown without counting every row, so it is only shown when complete
+        int totalPages = snapshots.isComplete(snapshot) ? (int) Math.ceil((double) snapshot.size() / ENTRIES_PER_PAGE) : -1;
 
-        if (page > totalPages) {
+        if (totalPages != -1 && page > totalPages) {
             ctx.sendMessage(Message.raw("Page " + page + " does not exist. Total pages: " + totalPages));
             return CompletableFuture.completedFuture(null);
         }
 
         int startIndex = (page - 1) * ENTRIES_PER_PAGE;
-        int endIndex = Math.min(startIndex + ENTRIES_PER_PAGE, entries.size());
+        return snapshots.getPage(currency, page - 1, ENTRIES_PER_PAGE).handle((result, ex) -> {
+            if (ex != null) {
+                ctx.sendMessage(Message.raw("Failed to load the " + currency + " leaderboard."));
+                return null;
+            }
 
-        StringBuilder message = new StringBuilder();
-        message.append("=== ").append(currency).append(" Leaderboard (Page ").append(page).append("/").append(totalPages).append(") ===\n");
+            List<LeaderboardEntry> entries = result.entries();
+            PlayerNameCache names = plugin.getCurrencyManager().getNameCache();
+            if (entries.isEmpty()) {
+                ctx.sendMessage(Message.raw("Page " + page + " does not exist."));
+                return null;
+            }
 
-        for (int i = startIndex; i < endIndex; i++) {
-            LeaderboardEntry entry = entries.get(i);
-            String username = Universe.get().getPlayer(UUID.fromString(entry.playerId())).getUsername();
-            message.append(i + 1).append(". ").append(username).append(": ").append(entry.amount()).append("\n");
-        }
+            StringBuilder message = new StringBuilder();
+            message.append("=== ").append(currency).append(" Leaderboard (Page ").append(page);
+            if (totalPages != -1) {
+                message.append("/").append(totalPages);
+            }
+            message.append(") ===\n");
+
+            Economy economy = HyCurrencyPlugin.getEconomy();
+            for (int i = 0; i < entries.size(); i++) {
+                LeaderboardEntry entry = entries.get(i);
+                String username = names.resolve(entry.playerId(), entry.playerName());
+                message.append(startIndex + i + 1).append(". ").append(username).append(": ");
+                economy.format(message, entry.amount(), currency).append("\n");
+            }
 
-        ctx.sendMessage(Message.raw(message.toString().trim()));
-        return CompletableFuture.completedFuture(null);
+            ctx.sendMessage(Message.raw(message.toString().trim()));
+            return null;
+        });
     }
 
 }
-
@@ -29,9 +29,14 @@ import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+/**
+ * The currencies defined in currency.json. A loaded config is never modified: a reload
+ * builds a new instance and swaps it in, so readers can hold on to one without locking.
+ */
 public class CurrencyConfig {
 
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
@@ -70,14 +75,50 @@ public class CurrencyConfig {
             }
         }
 
+        CurrencyConfig cfg = read(configFile);
+        if (cfg == null) {
+            // fallback to empty/default
+            cfg = createDefault();
+        }
+        return cfg.freeze();
+    }
+
+    /**
+     * Re-read currency.json for a reload. Unlike {@link #load(Path)} a missing or empty file is
+     * an error rather than a reason to fall back to the defaults, which would replace every
+     * configured currency.
+     */
+    public static CurrencyConfig reload(Path dataFolder) throws IOException {
+        Path configFile = dataFolder.resolve("currency.json");
+        if (!Files.exists(configFile)) {
+            throw new IOException(configFile + " does not exist");
+        }
+        CurrencyConfig cfg = read(configFile);
+        if (cfg == null) {
+            throw new IOException(configFile + " is empty");
+        }
+        return cfg.freeze();
+    }
+
+    private static CurrencyConfig read(Path configFile) throws IOException {
         try (Reader reader = Files.newBufferedReader(configFile)) {
-            CurrencyConfig cfg = GSON.fromJson(reader, CurrencyConfig.class);
-            if (cfg == null) {
-                // fallback to empty/default
-                cfg = createDefault();
-            }
-            return cfg;
+            return GSON.fromJson(reader, CurrencyConfig.class);
+        }
+    }
+
+    // Drop empty entries, compile formats up front and make the currency map read-only
+    private CurrencyConfig freeze() {
+        Map<String, CurrencyMetadata> frozen = new LinkedHashMap<>();
+        if (currencies != null) {
+            currencies.forEach((currencyId, metadata) -> {
+                if (currencyId != null && metadata != null) {
+                    metadata.getFormatter();
+                    frozen.put(currencyId, metadata);
+                }
+            });
         }
+        currencies = Collections.unmodifiableMap(frozen);
+        return this;
     }
 
     public void save(Path dataFolder) throws IOException {
@@ -20,6 +20,7 @@ package com.reliableplugins.currency.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.reliableplugins.currency.storage.StorageOverflowPolicy;
 import com.reliableplugins.currency.storage.StorageType;
 
 import java.io.IOException;
@@ -36,8 +37,16 @@ public class PluginConfig {
 
     // Storage settings
     private String storageType = "json";
+    // Split between the interactive, write and background storage lanes (at least one thread each)
     private int storageThreads = 2;
+    // Run storage I/O on virtual threads, bounded by the storage's connection count, instead of storageThreads
+    private boolean virtualThreads = false;
+    // How long a disconnected player's account stays in memory after it is saved, so a quick rejoin skips storage
+    private int disconnectGraceSeconds = 300;
+    private StorageQueueSettings storageQueue = new StorageQueueSettings();
     private DatabaseSettings database = new DatabaseSettings();
+    private LeaderboardSettings leaderboard = new LeaderboardSettings();
+    private EventSettings events = new EventSettings();
 
     public PluginConfig() {
     }
@@ -62,10 +71,30 @@ public class PluginConfig {
         this.storageThreads = storageThreads;
     }
 
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getDisconnectGraceSeconds() {
+        return Math.max(0, disconnectGraceSeconds);
+    }
+
+    public StorageQueueSettings getStorageQueue() {
+        return storageQueue != null ? storageQueue : new StorageQueueSettings();
+    }
+
     public DatabaseSettings getDatabase() {
         return database;
     }
 
+    public LeaderboardSettings getLeaderboard() {
+        return leaderboard != null ? leaderboard : new LeaderboardSettings();
+    }
+
+    public EventSettings getEvents() {
+        return events != null ? events : new EventSettings();
+    }
+
     public static PluginConfig load(Path dataFolder) throws IOException {
         Path configFile = dataFolder.resolve(CONFIG_FILE_NAME);
 
@@ -104,12 +133,44 @@ public class PluginConfig {
         return new PluginConfig();
     }
 
+    public static class StorageQueueSettings {
+        // Storage tasks each lane holds (queued and running) before new work overflows
+        private int capacity = 10000;
+        // "reject", "coalesce" (join pending work for the same account) or "caller-runs"
+        private String overflowPolicy = "reject";
+
+        public StorageQueueSettings() {
+        }
+
+        public int getCapacity() {
+            return Math.max(1, capacity);
+        }
+
+        public StorageOverflowPolicy getOverflowPolicy() {
+            return StorageOverflowPolicy.getPolicy(overflowPolicy, StorageOverflowPolicy.REJECT);
+        }
+    }
+
     public static class DatabaseSettings {
         private String host = "localhost";
         private int port = 3306;
         private String database = "hytale";
         private String username = "root";
         private String password = "password";
+        // "columns" keeps one column per currency; "normalized" stores one row per player and currency
+        private String schema = "columns";
+        // Accounts written per transaction when saving every online player
+        private int saveChunkSize = 250;
+        // Extra attempts for a chunk that failed to save
+        private int saveRetries = 2;
+        // Collect player saves and commit them together instead of one transaction each
+        private boolean groupCommit = true;
+        private int groupCommitCapacity = 4096;
+        private int groupCommitMaxBatch = 500;
+        // Longest a save waits for others to join its batch
+        private int groupCommitMaxDelayMillis = 10;
+        // Commit latency the batch size is adjusted towards
+        private int groupCommitTargetMillis = 50;
 
         public DatabaseSettings() {
         }
@@ -133,6 +194,91 @@ public class PluginConfig {
         public String getPassword() {
             return password;
         }
+
+        public boolean isNormalizedSchema() {
+            return "normalized".equalsIgnoreCase(schema);
+        }
+
+        public int getSaveChunkSize() {
+            return Math.max(1, saveChunkSize);
+        }
+
+        public int getSaveRetries() {
+            return Math.max(0, saveRetries);
+        }
+
+        public boolean isGroupCommit() {
+            return groupCommit;
+        }
+
+        public int getGroupCommitCapacity() {
+            return Math.max(1, groupCommitCapacity);
+        }
+
+        public int getGroupCommitMaxBatch() {
+            return Math.max(1, groupCommitMaxBatch);
+        }
+
+        public int getGroupCommitMaxDelayMillis() {
+            return Math.max(0, groupCommitMaxDelayMillis);
+        }
+
+        public int getGroupCommitTargetMillis() {
+            return Math.max(1, groupCommitTargetMillis);
+        }
     }
-}
 
+    public static class LeaderboardSettings {
+        // Number of entries kept in each leaderboard snapshot
+        private int size = 1000;
+        // How often every leaderboard is recomputed in the background
+        private int refreshIntervalSeconds = 300;
+        // Age after which a read also triggers a background refresh
+        private int staleAfterSeconds = 60;
+        // Number of player display names remembered for rendering
+        private int nameCacheSize = 10000;
+        // How often newly learned display names are persisted
+        private int nameSaveIntervalSeconds = 60;
+
+        public LeaderboardSettings() {
+        }
+
+        public int getSize() {
+            return Math.max(1, size);
+        }
+
+        public int getRefreshIntervalSeconds() {
+            return Math.max(1, refreshIntervalSeconds);
+        }
+
+        public int getStaleAfterSeconds() {
+            return Math.max(0, staleAfterSeconds);
+        }
+
+        public int getNameCacheSize() {
+            return Math.max(1, nameCacheSize);
+        }
+
+        public int getNameSaveIntervalSeconds() {
+            return Math.max(1, nameSaveIntervalSeconds);
+        }
+    }
+
+    public static class EventSettings {
+        // Merge balance changes per player and currency into one event per flush instead of one per change
+        private boolean coalesce = false;
+        // How often coalesced changes are dispatched; one server tick by default
+        private int flushIntervalMillis = 33;
+
+        public EventSettings() {
+        }
+
+        public boolean isCoalesce() {
+            return coalesce;
+        }
+
+        public int getFlushIntervalMillis() {
+            return Math.max(1, flushIntervalMillis);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.feed;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.api.BalanceChange;
+import com.reliableplugins.currency.api.ChangeFeedOverflow;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans balance changes out to {@link Flow.Subscriber}s.
+ * <p>
+ * Publishing only filters and enqueues: every subscription buffers its own changes and
+ * delivers them on the feed's delivery threads, so the thread that changed the balance is
+ * never blocked by a subscriber. With no subscribers, publishing costs one emptiness check.
+ */
+public class BalanceChangeFeed {
+
+    private final HyCurrencyPlugin plugin;
+    private final List<ChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ExecutorService delivery;
+    private volatile boolean closed;
+
+    public BalanceChangeFeed(@Nonnull HyCurrencyPlugin plugin) {
+        this.plugin = plugin;
+        AtomicInteger counter = new AtomicInteger();
+        this.delivery = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "HyCurrency-ChangeFeed-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param currency Only deliver changes to this currency, or null for all
+     * @param playerId Only deliver changes to this account, or null for all
+     */
+    @Nonnull
+    public Flow.Publisher<BalanceChange> publisher(@Nullable String currency, @Nullable UUID playerId,
+                                                   int bufferSize, @Nonnull ChangeFeedOverflow overflow) {
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber");
+            ChangeSubscription subscription = new ChangeSubscription(this, subscriber, currency, playerId, bufferSize, overflow);
+            if (closed) {
+                subscription.complete();
+            } else {
+                subscriptions.add(subscription);
+            }
+            subscription.start();
+        };
+    }
+
+    public void publish(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal oldAmount, @Nonnull BigDecimal newAmount) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        BalanceChange change = null;
+        for (ChangeSubscription subscription : subscriptions) {
+            if (subscription.accepts(playerId, currency)) {
+                if (change == null) {
+                    change = new BalanceChange(playerId, currency, oldAmount, newAmount);
+                }
+                subscription.offer(change);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Complete every subscription and stop delivering.
+     */
+    public void shutdown() {
+        closed = true;
+        for (ChangeSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+        subscriptions.clear();
+        delivery.shutdown();
+    }
+
+    void remove(ChangeSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    void deliver(Runnable task) {
+        try {
+            delivery.execute(task);
+        } catch (RuntimeException e) {
+            // Shut down: subscribers were already completed
+        }
+    }
+
+    HyCurrencyPlugin getPlugin() {
+        return plugin;
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.feed;
+
+import com.reliableplugins.currency.api.BalanceChange;
+import com.reliableplugins.currency.api.ChangeFeedOverflow;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+
+/**
+ * One subscriber's view of a {@link BalanceChangeFeed}: a bounded buffer plus the demand the
+ * subscriber has signalled. All signals to the subscriber are issued by a single drain task
+ * at a time, so they never overlap.
+ */
+final class ChangeSubscription implements Flow.Subscription {
+
+    private final BalanceChangeFeed feed;
+    private final Flow.Subscriber<? super BalanceChange> subscriber;
+    @Nullable
+    private final String currency;
+    @Nullable
+    private final UUID playerId;
+    private final int capacity;
+    private final ChangeFeedOverflow overflow;
+
+    // Guarded by this
+    private final ArrayDeque<BalanceChange> buffer = new ArrayDeque<>();
+    private long demand;
+    private boolean subscribed;
+    private boolean draining;
+    private boolean completing;
+    private boolean done;
+    @Nullable
+    private Throwable failure;
+
+    ChangeSubscription(BalanceChangeFeed feed, Flow.Subscriber<? super BalanceChange> subscriber, @Nullable String currency,
+                       @Nullable UUID playerId, int capacity, ChangeFeedOverflow overflow) {
+        this.feed = feed;
+        this.subscriber = subscriber;
+        this.currency = currency;
+        this.playerId = playerId;
+        this.capacity = Math.max(1, capacity);
+        this.overflow = overflow;
+    }
+
+    boolean accepts(UUID changedPlayer, String changedCurrency) {
+        return (currency == null || currency.equals(changedCurrency)) && (playerId == null || playerId.equals(changedPlayer));
+    }
+
+    void start() {
+        scheduleDrain();
+    }
+
+    void offer(BalanceChange change) {
+        synchronized (this) {
+            if (done || completing || failure != null) {
+                return;
+            }
+            if (buffer.size() >= capacity) {
+                switch (overflow) {
+                    case DROP_NEWEST:
+                        return;
+                    case DROP_OLDEST:
+                        buffer.pollFirst();
+                        break;
+                    case DISCONNECT:
+                        buffer.clear();
+                        failure = new IllegalStateException("Balance change buffer overflowed (" + capacity + " changes)");
+                        break;
+                }
+            }
+            if (failure == null) {
+                buffer.addLast(change);
+            }
+        }
+        scheduleDrain();
+    }
+
+    void complete() {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            completing = true;
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    public void request(long n) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            if (n <= 0) {
+                buffer.clear();
+                failure = new IllegalArgumentException("Subscriber requested " + n + " changes; requests must be positive");
+            } else {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    public void cancel() {
+        synchronized (this) {
+            done = true;
+            buffer.clear();
+        }
+        feed.remove(this);
+    }
+
+    private void scheduleDrain() {
+        synchronized (this) {
+            if (draining || done) {
+                return;
+            }
+            draining = true;
+        }
+        feed.deliver(this::drain);
+    }
+
+    private void drain() {
+        try {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            while (true) {
+                BalanceChange next;
+                Throwable error = null;
+                boolean finish = false;
+                synchronized (this) {
+                    if (done) {
+                        draining = false;
+                        return;
+                    }
+                    if (failure != null) {
+                        error = failure;
+                        done = true;
+                    } else if (completing && (buffer.isEmpty() || demand == 0)) {
+                        finish = true;
+                        done = true;
+                    }
+                    next = error == null && !finish && demand > 0 ? buffer.pollFirst() : null;
+                    if (next == null && error == null && !finish) {
+                        draining = false;
+                        return;
+                    }
+                    if (next != null && demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                }
+                if (error != null) {
+                    feed.remove(this);
+                    subscriber.onError(error);
+                    return;
+                }
+                if (finish) {
+                    feed.remove(this);
+                    subscriber.onComplete();
+                    return;
+                }
+                subscriber.onNext(next);
+            }
+        } catch (Throwable t) {
+            // A subscriber that throws is treated as having cancelled
+            feed.getPlugin().getLogger().atWarning().log("Balance change subscriber failed and was removed: " + t.getMessage());
+            cancel();
+            synchronized (this) {
+                draining = false;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,352 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.leaderboard;
+
+import com.reliableplugins.currency.api.LeaderboardEntry;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Order-statistic index of the positive balances held for a single currency.
+ * <p>
+ * Entries are kept in a treap whose nodes track their subtree size, ordered by
+ * amount (descending) and then player UUID (ascending) so ties are stable.
+ * Updates, rank lookups and positional seeks are O(log n); reading k
+ * consecutive rows from any position is O(log n + k).
+ */
+public class LeaderboardIndex {
+
+    /**
+     * The order used by every leaderboard: highest amount first, ties broken by UUID.
+     */
+    public static final Comparator<LeaderboardEntry> ENTRY_ORDER =
+            (a, b) -> compare(a.amount(), a.playerId(), b.amount(), b.playerId());
+
+    private final String currencyId;
+    private final Map<UUID, BigDecimal> balances = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+
+    public LeaderboardIndex(@Nonnull String currencyId) {
+        this.currencyId = currencyId;
+    }
+
+    @Nonnull
+    public String getCurrencyId() {
+        return currencyId;
+    }
+
+    /**
+     * Insert, move or remove a player so the index reflects their new balance.
+     * Balances of zero or less are not ranked.
+     */
+    public void update(@Nonnull UUID playerId, @Nonnull BigDecimal amount) {
+        lock.writeLock().lock();
+        try {
+            BigDecimal previous = balances.get(playerId);
+            if (previous != null) {
+                if (previous.compareTo(amount) == 0) {
+                    return;
+                }
+                root = delete(root, previous, playerId);
+                balances.remove(playerId);
+            }
+            if (amount.signum() > 0) {
+                root = insert(root, new Node(playerId, amount));
+                balances.put(playerId, amount);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(@Nonnull UUID playerId) {
+        lock.writeLock().lock();
+        try {
+            BigDecimal previous = balances.remove(playerId);
+            if (previous != null) {
+                root = delete(root, previous, playerId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The 1-based rank of the player, or -1 if they are not ranked
+     */
+    public int getRank(@Nonnull UUID playerId) {
+        lock.readLock().lock();
+        try {
+            BigDecimal amount = balances.get(playerId);
+            return amount == null ? -1 : countBefore(amount, playerId) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of ranked players holding strictly more than the given amount
+     */
+    public int countAbove(@Nonnull BigDecimal amount) {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            Node node = root;
+            while (node != null) {
+                if (node.amount.compareTo(amount) > 0) {
+                    count += size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    node = node.left;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Read up to {@code limit} consecutive rows starting at the 0-based position {@code offset}.
+     */
+    @Nonnull
+    public List<LeaderboardEntry> getEntries(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return collect(offset, limit, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Read up to {@code limit} consecutive rows that follow the given position in {@link #ENTRY_ORDER}.
+     */
+    @Nonnull
+    public List<LeaderboardEntry> getEntriesAfter(@Nonnull BigDecimal amount, @Nonnull UUID playerId, int limit) {
+        lock.readLock().lock();
+        try {
+            int offset = countBefore(amount, playerId);
+            BigDecimal held = balances.get(playerId);
+            if (held != null && held.compareTo(amount) == 0) {
+                // The position is a row of the index itself
+                offset++;
+            }
+            return collect(offset, limit, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Read up to {@code limit} rows whose amount lies within {@code [min, max]}, highest first.
+     */
+    @Nonnull
+    public List<LeaderboardEntry> getEntriesBetween(@Nonnull BigDecimal min, @Nonnull BigDecimal max, int limit) {
+        lock.readLock().lock();
+        try {
+            int offset = 0;
+            Node node = root;
+            while (node != null) {
+                if (node.amount.compareTo(max) > 0) {
+                    offset += size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    node = node.left;
+                }
+            }
+            return collect(offset, limit, min);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<LeaderboardEntry> collect(int offset, int limit, BigDecimal floor) {
+        if (offset < 0 || limit <= 0 || offset >= size(root)) {
+            return List.of();
+        }
+
+        // Seek to the node at `offset`, stacking every ancestor that still follows it in order
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        int remaining = offset;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (remaining < leftSize) {
+                stack.push(node);
+                node = node.left;
+            } else if (remaining == leftSize) {
+                stack.push(node);
+                break;
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+
+        List<LeaderboardEntry> result = new ArrayList<>(Math.min(limit, size(root) - offset));
+        while (!stack.isEmpty() && result.size() < limit) {
+            Node current = stack.pop();
+            if (floor != null && current.amount.compareTo(floor) < 0) {
+                break;
+            }
+            result.add(new LeaderboardEntry(current.playerId, current.amount));
+            for (Node next = current.right; next != null; next = next.left) {
+                stack.push(next);
+            }
+        }
+        return result;
+    }
+
+    private int countBefore(BigDecimal amount, UUID playerId) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(amount, playerId, node.amount, node.playerId);
+            if (cmp > 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else if (cmp < 0) {
+                node = node.left;
+            } else {
+                return count + size(node.left);
+            }
+        }
+        return count;
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.amount, inserted.playerId, node.amount, node.playerId) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.updateSize();
+        return node;
+    }
+
+    private static Node delete(Node node, BigDecimal amount, UUID playerId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(amount, playerId, node.amount, node.playerId);
+        if (cmp < 0) {
+            node.left = delete(node.left, amount, playerId);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, amount, playerId);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.updateSize();
+        return node;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateSize();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.updateSize();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.updateSize();
+        pivot.updateSize();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.updateSize();
+        pivot.updateSize();
+        return pivot;
+    }
+
+    // Highest amount first, then UUID so equal balances have a stable order.
+    // UUIDs compare unsigned so ties sort like their string form does in SQL.
+    static int compare(BigDecimal amountA, UUID playerA, BigDecimal amountB, UUID playerB) {
+        int cmp = amountB.compareTo(amountA);
+        if (cmp != 0) return cmp;
+        cmp = Long.compareUnsigned(playerA.getMostSignificantBits(), playerB.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compareUnsigned(playerA.getLeastSignificantBits(), playerB.getLeastSignificantBits());
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final UUID playerId;
+        private final BigDecimal amount;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(UUID playerId, BigDecimal amount) {
+            this.playerId = playerId;
+            this.amount = amount;
+        }
+
+        private void updateSize() {
+            size = 1 + LeaderboardIndex.size(left) + LeaderboardIndex.size(right);
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.leaderboard;
+
+import com.reliableplugins.currency.config.CurrencyConfig;
+import com.reliableplugins.currency.model.CurrencyMetadata;
+import com.reliableplugins.currency.model.CurrencyModel;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one {@link LeaderboardIndex} per leaderboard-enabled currency in sync
+ * with the cached player models.
+ */
+public class LeaderboardManager {
+
+    private final Map<String, LeaderboardIndex> indexes = new ConcurrentHashMap<>();
+
+    public LeaderboardManager(@Nullable CurrencyConfig currencyConfig) {
+        if (currencyConfig == null || currencyConfig.getCurrencies() == null) return;
+        for (Map.Entry<String, CurrencyMetadata> entry : currencyConfig.getCurrencies().entrySet()) {
+            if (entry.getValue().isLeaderboard()) {
+                indexes.put(entry.getKey(), new LeaderboardIndex(entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Match the indexed currencies to a reloaded configuration. New indexes are filled
+     * from the tracked players; indexes of currencies that lost their leaderboard are dropped.
+     *
+     * @param tracked The models of tracked players by UUID string
+     */
+    public void reconfigure(@Nonnull CurrencyConfig currencyConfig, @Nonnull Map<String, CurrencyModel> tracked) {
+        Map<String, CurrencyMetadata> currencies = currencyConfig.getCurrencies();
+        indexes.keySet().removeIf(currencyId -> {
+            CurrencyMetadata metadata = currencies.get(currencyId);
+            return metadata == null || !metadata.isLeaderboard();
+        });
+        currencies.forEach((currencyId, metadata) -> {
+            if (!metadata.isLeaderboard() || indexes.containsKey(currencyId)) return;
+            LeaderboardIndex index = new LeaderboardIndex(currencyId);
+            tracked.forEach((playerUuid, model) -> {
+                UUID playerId = parseUuid(playerUuid);
+                if (playerId != null) {
+                    index.update(playerId, model.getCurrency(currencyId));
+                }
+            });
+            indexes.put(currencyId, index);
+        });
+    }
+
+    @Nullable
+    public LeaderboardIndex getIndex(@Nonnull String currencyId) {
+        return indexes.get(currencyId);
+    }
+
+    public boolean isIndexed(@Nonnull String currencyId) {
+        return indexes.containsKey(currencyId);
+    }
+
+    @Nonnull
+    public Set<String> getIndexedCurrencies() {
+        return indexes.keySet();
+    }
+
+    /**
+     * Index the model's current balances. Later changes are passed in through {@link #update}.
+     */
+    public void track(@Nonnull String playerUuid, @Nonnull CurrencyModel model) {
+        UUID playerId = parseUuid(playerUuid);
+        if (playerId == null) return;
+        indexes.forEach((currencyId, index) -> index.update(playerId, model.getCurrency(currencyId)));
+    }
+
+    /**
+     * Apply a balance change of a tracked player.
+     */
+    public void update(@Nonnull UUID playerId, @Nonnull String currencyId, @Nonnull BigDecimal newAmount) {
+        LeaderboardIndex index = indexes.get(currencyId);
+        if (index != null) {
+            index.update(playerId, newAmount);
+        }
+    }
+
+    /**
+     * Drop the player from every index.
+     */
+    public void untrack(@Nonnull String playerUuid) {
+        UUID playerId = parseUuid(playerUuid);
+        if (playerId == null) return;
+        indexes.values().forEach(index -> index.remove(playerId));
+    }
+
+    @Nullable
+    private static UUID parseUuid(String playerUuid) {
+        try {
+            return UUID.fromString(playerUuid);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
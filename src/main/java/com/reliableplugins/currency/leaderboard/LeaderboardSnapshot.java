@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.leaderboard;
+
+import com.reliableplugins.currency.api.LeaderboardCursor;
+import com.reliableplugins.currency.api.LeaderboardEntry;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable top-N view of a currency leaderboard across online and offline players.
+ *
+ * @param currencyId      The leaderboard currency
+ * @param entries         The ranked entries, highest balance first
+ * @param createdAtMillis When the snapshot was computed
+ */
+public record LeaderboardSnapshot(@Nonnull String currencyId, @Nonnull List<LeaderboardEntry> entries, long createdAtMillis) {
+
+    public LeaderboardSnapshot {
+        entries = List.copyOf(entries);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getAgeMillis() {
+        return System.currentTimeMillis() - createdAtMillis;
+    }
+
+    /**
+     * @return Up to {@code limit} entries starting at the 0-based position {@code offset}
+     */
+    @Nonnull
+    public List<LeaderboardEntry> getPage(int offset, int limit) {
+        if (offset < 0 || limit <= 0 || offset >= entries.size()) {
+            return List.of();
+        }
+        return entries.subList(offset, Math.min(entries.size(), offset + limit));
+    }
+
+    /**
+     * @return The 0-based position of the first entry that follows the cursor
+     */
+    public int positionAfter(@Nonnull LeaderboardCursor cursor) {
+        int index = Collections.binarySearch(entries, new LeaderboardEntry(cursor.playerId(), cursor.amount()), LeaderboardIndex.ENTRY_ORDER);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+}
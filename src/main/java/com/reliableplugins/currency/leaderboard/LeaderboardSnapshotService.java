@@ -0,0 +1,333 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.leaderboard;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.api.LeaderboardCursor;
+import com.reliableplugins.currency.api.LeaderboardEntry;
+import com.reliableplugins.currency.api.LeaderboardPage;
+import com.reliableplugins.currency.config.PluginConfig;
+import com.reliableplugins.currency.model.CurrencyManager;
+import com.reliableplugins.currency.model.CurrencyModel;
+import com.reliableplugins.currency.model.PlayerNameCache;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically recomputes the top entries of every leaderboard currency and
+ * publishes them as immutable {@link LeaderboardSnapshot}s.
+ * <p>
+ * Reads never touch storage: they return the last published snapshot and, once
+ * it is older than the configured stale age, trigger a background refresh
+ * (stale-while-revalidate). Concurrent refreshes of one currency are collapsed.
+ * <p>
+ * Pages past the end of a snapshot are read from storage with keyset pagination:
+ * the cursor of the last row of each page served is remembered (until the next
+ * snapshot is published), so paging forward costs one index seek per page
+ * regardless of depth. Like the snapshot, those pages rank online players by their
+ * live balance rather than the stored one, so a cursor means the same position
+ * whichever source serves the next page.
+ */
+public class LeaderboardSnapshotService {
+
+    private static final int MAX_PAGE_CURSORS = 4096;
+
+    private final HyCurrencyPlugin plugin;
+    private final CurrencyManager currencyManager;
+    private final Map<String, LeaderboardSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<LeaderboardSnapshot>> pendingRefreshes = new ConcurrentHashMap<>();
+    // currency -> (0-based position of a row -> cursor of that row), for rows past the snapshot
+    private final Map<String, Map<Integer, LeaderboardCursor>> pageCursors = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public LeaderboardSnapshotService(@Nonnull HyCurrencyPlugin plugin, @Nonnull CurrencyManager currencyManager) {
+        this.plugin = plugin;
+        this.currencyManager = currencyManager;
+    }
+
+    public void start() {
+        PluginConfig.LeaderboardSettings settings = plugin.getPluginConfig().getLeaderboard();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HyCurrency-Leaderboard");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshAll, 0, settings.getRefreshIntervalSeconds(), TimeUnit.SECONDS);
+    }
+
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            try {
+                // A refresh in progress may still be reading storage, which is closed next
+                if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                    plugin.getLogger().atWarning().log("Leaderboard refresh did not stop within 5s");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @return The largest number of entries a snapshot holds
+     */
+    public int getCapacity() {
+        return plugin.getPluginConfig().getLeaderboard().getSize();
+    }
+
+    /**
+     * Get the last published snapshot, refreshing it in the background if it is stale.
+     *
+     * @return The snapshot, or null if the currency has no leaderboard or none has been computed yet
+     */
+    @Nullable
+    public LeaderboardSnapshot getSnapshot(@Nonnull String currencyId) {
+        if (!currencyManager.getLeaderboardManager().isIndexed(currencyId)) {
+            return null;
+        }
+        LeaderboardSnapshot snapshot = snapshots.get(currencyId);
+        boolean fresh = snapshot != null && !isStale(snapshot);
+        plugin.getMetrics().cache("leaderboard snapshots").record(fresh);
+        if (!fresh) {
+            refresh(currencyId);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Like {@link #getSnapshot(String)}, but waits for the first snapshot if none has been published yet.
+     */
+    @Nonnull
+    public CompletableFuture<LeaderboardSnapshot> getSnapshotAsync(@Nonnull String currencyId) {
+        LeaderboardSnapshot snapshot = getSnapshot(currencyId);
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(snapshot);
+        }
+        return refresh(currencyId);
+    }
+
+    /**
+     * Get a page of the leaderboard by number. Pages inside the snapshot are served from it;
+     * deeper pages seek from the cursor of the previous page when it is known. Otherwise storage
+     * seeks to the page's first row: only one row is read back, but the database still steps over
+     * the rows above it, and the page may start up to the online player count away from its exact
+     * rank. Paging on from there is exact.
+     *
+     * @param pageIndex The 0-based page number
+     * @param pageSize  The number of entries per page
+     */
+    @Nonnull
+    public CompletableFuture<LeaderboardPage> getPage(@Nonnull String currencyId, int pageIndex, int pageSize) {
+        if (pageIndex < 0 || pageSize <= 0) {
+            return CompletableFuture.completedFuture(LeaderboardPage.EMPTY);
+        }
+        int offset = pageIndex * pageSize;
+        LeaderboardSnapshot snapshot = getSnapshot(currencyId);
+        if (snapshot != null && (offset + pageSize <= snapshot.size() || isComplete(snapshot))) {
+            return CompletableFuture.completedFuture(LeaderboardPage.of(snapshot.getPage(offset, pageSize), pageSize));
+        }
+
+        LeaderboardCursor after = offset == 0 ? null : cursorAt(currencyId, snapshot, offset - 1);
+        CompletableFuture<List<LeaderboardEntry>> rows = after != null
+                ? readAfter(currencyId, after, pageSize)
+                : readAt(currencyId, offset, pageSize);
+
+        return rows.thenApply(entries -> {
+            LeaderboardPage page = LeaderboardPage.of(entries, pageSize);
+            if (page.nextCursor() != null) {
+                rememberCursor(currencyId, offset + entries.size() - 1, page.nextCursor());
+            }
+            return page;
+        });
+    }
+
+    /**
+     * Get the entries that follow a cursor, or the first entries if the cursor is null.
+     */
+    @Nonnull
+    public CompletableFuture<LeaderboardPage> getPageAfter(@Nonnull String currencyId, @Nullable LeaderboardCursor after, int limit) {
+        if (limit <= 0) {
+            return CompletableFuture.completedFuture(LeaderboardPage.EMPTY);
+        }
+        LeaderboardSnapshot snapshot = getSnapshot(currencyId);
+        if (snapshot != null) {
+            int start = after == null ? 0 : snapshot.positionAfter(after);
+            if (start + limit <= snapshot.size() || isComplete(snapshot)) {
+                return CompletableFuture.completedFuture(LeaderboardPage.of(snapshot.getPage(start, limit), limit));
+            }
+        }
+
+        CompletableFuture<List<LeaderboardEntry>> rows = readAfter(currencyId, after, limit);
+        return rows.thenApply(entries -> LeaderboardPage.of(entries, limit));
+    }
+
+    /**
+     * @return Whether the snapshot holds every ranked account, as opposed to just the top of the leaderboard
+     */
+    public boolean isComplete(@Nonnull LeaderboardSnapshot snapshot) {
+        return snapshot.size() < getCapacity();
+    }
+
+    /**
+     * Rows from a position without a cursor to start from. Storage steps to the stored row just
+     * above the position, which is one row over the wire however deep the page, and the page is
+     * read after it like any other. Storage positions count online players at their stored
+     * balance, so the page starts within the online player count of the exact rank.
+     */
+    private CompletableFuture<List<LeaderboardEntry>> readAt(String currencyId, int offset, int limit) {
+        if (currencyManager.getLeaderboardManager().getIndex(currencyId) == null) {
+            return currencyManager.getStorage().getLeaderboardPage(currencyId, offset, limit);
+        }
+        if (offset == 0) {
+            return readAfter(currencyId, null, limit);
+        }
+        return currencyManager.getStorage().getLeaderboardPage(currencyId, offset - 1, 1)
+                .thenCompose(boundary -> boundary.isEmpty()
+                        ? CompletableFuture.completedFuture(List.<LeaderboardEntry>of())
+                        : readAfter(currencyId, LeaderboardCursor.of(boundary.get(0)), limit));
+    }
+
+    // Rows that follow a cursor, or the first rows if it is null, ranked like the snapshot
+    private CompletableFuture<List<LeaderboardEntry>> readAfter(String currencyId, @Nullable LeaderboardCursor after, int limit) {
+        LeaderboardIndex index = currencyManager.getLeaderboardManager().getIndex(currencyId);
+        Map<String, CurrencyModel> online = plugin.getCurrencyDataMap();
+        if (index == null) {
+            return after != null
+                    ? currencyManager.getStorage().getLeaderboardPageAfter(currencyId, after, limit)
+                    : currencyManager.getStorage().getLeaderboardPage(currencyId, 0, limit);
+        }
+        // Stored rows of online players are dropped in the merge, so over-fetch by the online count
+        int fetch = limit + online.size();
+        CompletableFuture<List<LeaderboardEntry>> stored = after != null
+                ? currencyManager.getStorage().getLeaderboardPageAfter(currencyId, after, fetch)
+                : currencyManager.getStorage().getLeaderboardPage(currencyId, 0, fetch);
+        return stored.thenApply(rows -> merge(rows, after != null
+                ? index.getEntriesAfter(after.amount(), after.playerId(), limit)
+                : index.getEntries(0, limit), online, limit));
+    }
+
+    @Nullable
+    private LeaderboardCursor cursorAt(String currencyId, @Nullable LeaderboardSnapshot snapshot, int position) {
+        if (snapshot != null && position < snapshot.size()) {
+            return LeaderboardCursor.of(snapshot.entries().get(position));
+        }
+        Map<Integer, LeaderboardCursor> cursors = pageCursors.get(currencyId);
+        return cursors != null ? cursors.get(position) : null;
+    }
+
+    private void rememberCursor(String currencyId, int position, LeaderboardCursor cursor) {
+        Map<Integer, LeaderboardCursor> cursors = pageCursors.computeIfAbsent(currencyId, k -> new ConcurrentHashMap<>());
+        if (cursors.size() >= MAX_PAGE_CURSORS) {
+            cursors.clear();
+        }
+        cursors.put(position, cursor);
+    }
+
+    /**
+     * Recompute a snapshot, joining the refresh already in flight for the currency if there is one.
+     */
+    @Nonnull
+    public CompletableFuture<LeaderboardSnapshot> refresh(@Nonnull String currencyId) {
+        CompletableFuture<LeaderboardSnapshot> pending = new CompletableFuture<>();
+        CompletableFuture<LeaderboardSnapshot> existing = pendingRefreshes.putIfAbsent(currencyId, pending);
+        if (existing != null) {
+            return existing;
+        }
+
+        computeSnapshot(currencyId).whenComplete((snapshot, ex) -> {
+            pendingRefreshes.remove(currencyId, pending);
+            if (ex != null) {
+                plugin.getLogger().atWarning().log("Failed to refresh " + currencyId + " leaderboard: " + ex.getMessage());
+                pending.completeExceptionally(ex);
+                return;
+            }
+            snapshots.put(currencyId, snapshot);
+            // Positions past the snapshot drift as balances change, so start over from the new snapshot
+            pageCursors.remove(currencyId);
+            pending.complete(snapshot);
+        });
+        return pending;
+    }
+
+    private void refreshAll() {
+        for (String currencyId : currencyManager.getLeaderboardManager().getIndexedCurrencies()) {
+            refresh(currencyId);
+        }
+    }
+
+    private boolean isStale(LeaderboardSnapshot snapshot) {
+        return snapshot.getAgeMillis() > TimeUnit.SECONDS.toMillis(plugin.getPluginConfig().getLeaderboard().getStaleAfterSeconds());
+    }
+
+    private CompletableFuture<LeaderboardSnapshot> computeSnapshot(String currencyId) {
+        LeaderboardIndex index = currencyManager.getLeaderboardManager().getIndex(currencyId);
+        if (index == null) {
+            return CompletableFuture.completedFuture(new LeaderboardSnapshot(currencyId, List.of(), System.currentTimeMillis()));
+        }
+
+        int size = getCapacity();
+        Map<String, CurrencyModel> online = plugin.getCurrencyDataMap();
+
+        // Stored rows of online players are replaced by their live balance,
+        // so over-fetch by the online count to still end up with `size` offline candidates
+        return currencyManager.getStorage().getLeaderboardPage(currencyId, 0, size + online.size())
+                .thenApply(stored -> {
+                    List<LeaderboardEntry> top = merge(stored, index.getEntries(0, size), online, size);
+                    return new LeaderboardSnapshot(currencyId, top, System.currentTimeMillis());
+                });
+    }
+
+    /**
+     * Rank stored rows of offline players together with the live rows of online players.
+     *
+     * @param stored Rows read from storage, which may include stale rows of online players
+     * @param live   Rows of the online players' current balances
+     * @return The first {@code limit} rows in leaderboard order
+     */
+    private List<LeaderboardEntry> merge(List<LeaderboardEntry> stored, List<LeaderboardEntry> live,
+                                         Map<String, CurrencyModel> online, int limit) {
+        List<LeaderboardEntry> merged = new ArrayList<>(stored.size() + live.size());
+        PlayerNameCache names = currencyManager.getNameCache();
+        for (LeaderboardEntry entry : stored) {
+            if (!online.containsKey(entry.playerId().toString())) {
+                names.putIfAbsent(entry.playerId(), entry.playerName());
+                merged.add(new LeaderboardEntry(entry.playerId(), names.get(entry.playerId()), entry.amount()));
+            }
+        }
+        for (LeaderboardEntry entry : live) {
+            CurrencyModel model = online.get(entry.playerId().toString());
+            String playerName = names.resolve(entry.playerId(), model != null ? model.getPlayerName() : null);
+            merged.add(new LeaderboardEntry(entry.playerId(), playerName, entry.amount()));
+        }
+        merged.sort(LeaderboardIndex.ENTRY_ORDER);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+}
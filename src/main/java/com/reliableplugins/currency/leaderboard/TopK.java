@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.leaderboard;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Selects the best K elements of a list without sorting all of it.
+ * <p>
+ * The list is split into partitions on the common {@link ForkJoinPool}; each partition
+ * keeps a min-heap bounded at K (the worst kept element on top), and partition heaps
+ * are merged pairwise. Only the final K elements are sorted, so selection costs
+ * O(n log K) instead of O(n log n) and never holds more than K elements per partition.
+ */
+public final class TopK {
+
+    // Below this many elements a single scan is cheaper than forking
+    private static final int SEQUENTIAL_THRESHOLD = 8192;
+
+    private TopK() {
+    }
+
+    /**
+     * Select the best {@code k} elements, best first.
+     *
+     * @param source The elements to select from; must not be modified during the call
+     * @param mapper Converts a source element into a candidate, or returns null to skip it
+     * @param k      The maximum number of elements to return
+     * @param order  The ranking order, best element first
+     * @return Up to {@code k} candidates, sorted by {@code order}
+     */
+    @Nonnull
+    public static <S, T> List<T> select(@Nonnull List<S> source, @Nonnull Function<? super S, ? extends T> mapper,
+                                        int k, @Nonnull Comparator<? super T> order) {
+        if (k <= 0 || source.isEmpty()) {
+            return List.of();
+        }
+
+        SelectTask<S, T> task = new SelectTask<>(source, mapper, k, order, 0, source.size());
+        PriorityQueue<T> heap = source.size() <= SEQUENTIAL_THRESHOLD ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+
+        @SuppressWarnings("unchecked")
+        T[] result = (T[]) heap.toArray();
+        Arrays.sort(result, order);
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Select the best {@code k} elements of the list itself, best first.
+     */
+    @Nonnull
+    public static <T> List<T> select(@Nonnull List<T> source, int k, @Nonnull Comparator<? super T> order) {
+        return select(source, Function.identity(), k, order);
+    }
+
+    // ForkJoinTask is Serializable, but these tasks never leave the pool
+    @SuppressWarnings("serial")
+    private static final class SelectTask<S, T> extends RecursiveTask<PriorityQueue<T>> {
+
+        private final List<S> source;
+        private final Function<? super S, ? extends T> mapper;
+        private final int k;
+        private final Comparator<? super T> order;
+        private final int from;
+        private final int to;
+
+        private SelectTask(List<S> source, Function<? super S, ? extends T> mapper, int k,
+                           Comparator<? super T> order, int from, int to) {
+            this.source = source;
+            this.mapper = mapper;
+            this.k = k;
+            this.order = order;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected PriorityQueue<T> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                PriorityQueue<T> heap = newHeap(Math.min(k, to - from));
+                for (int i = from; i < to; i++) {
+                    T candidate = mapper.apply(source.get(i));
+                    if (candidate != null) {
+                        offer(heap, candidate);
+                    }
+                }
+                return heap;
+            }
+
+            int mid = (from + to) >>> 1;
+            SelectTask<S, T> left = new SelectTask<>(source, mapper, k, order, from, mid);
+            SelectTask<S, T> right = new SelectTask<>(source, mapper, k, order, mid, to);
+            left.fork();
+            PriorityQueue<T> rightHeap = right.compute();
+            PriorityQueue<T> leftHeap = left.join();
+
+            // Drain the smaller heap into the larger one
+            PriorityQueue<T> into = leftHeap.size() >= rightHeap.size() ? leftHeap : rightHeap;
+            PriorityQueue<T> other = into == leftHeap ? rightHeap : leftHeap;
+            for (T candidate : other) {
+                offer(into, candidate);
+            }
+            return into;
+        }
+
+        private PriorityQueue<T> newHeap(int capacity) {
+            // Reversed order puts the worst kept element at the head
+            return new PriorityQueue<>(Math.max(1, capacity), order.reversed());
+        }
+
+        private void offer(PriorityQueue<T> heap, T candidate) {
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (order.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+    }
+
+}
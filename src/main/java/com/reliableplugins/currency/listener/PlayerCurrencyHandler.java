@@ -19,11 +19,13 @@
 package com.reliableplugins.currency.listener;
 
 import com.reliableplugins.currency.HyCurrencyPlugin;
-import com.reliableplugins.currency.config.CurrencyConfig;
+import com.reliableplugins.currency.model.CurrencyModel;
 import com.hypixel.hytale.server.core.event.events.player.PlayerConnectEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
+import java.util.concurrent.CompletableFuture;
+
 public class PlayerCurrencyHandler {
 
     private final HyCurrencyPlugin plugin;
@@ -42,23 +44,15 @@ public class PlayerCurrencyHandler {
         PlayerRef playerRef = event.getPlayerRef();
         String playerUuid = playerRef.getUuid().toString();
         String playerName = playerRef.getUsername();
-        // Load player currency data from database
-        plugin.getCurrencyManager().loadPlayer(playerUuid)
-                .thenAccept(model -> {
+        plugin.getCurrencyManager().getNameCache().put(playerRef.getUuid(), playerName);
+        // Load player currency data from database; sync API calls report the account as loading until it is cached
+        plugin.getCurrencyManager().loadPlayer(playerUuid, model -> {
                     // Store the player's name
                     model.setPlayerName(playerName.toLowerCase());
                     // Auto-grant currencies that are configured with autoGrant=true
-                    CurrencyConfig currencyConfig = plugin.getCurrencyConfig();
-                    if (currencyConfig != null && currencyConfig.getCurrencies() != null) {
-                        currencyConfig.getCurrencies().forEach((currencyId, currencyEntry) -> {
-                            if (currencyEntry.isAutoGrant() && !model.hasCurrency(currencyId)) {
-                                model.setCurrency(currencyId, currencyEntry.getDefaultAmount());
-                                plugin.getLogger().atInfo().log("Auto-granted currency '" + currencyId + "' with default amount " + currencyEntry.getDefaultAmount() + " to player " + playerName);
-                            }
-                        });
-                    }
-                    plugin.getLogger().atInfo().log("Loaded currency data for player " + playerName);
+                    plugin.getCurrencyManager().grantDefaults(model, plugin.getCurrencyConfig());
                 })
+                .thenAccept(model -> plugin.getLogger().atInfo().log("Loaded currency data for player " + playerName))
                 .exceptionally(ex -> {
                     plugin.getLogger().atSevere().log("Failed to load currency data for player " + playerName + ": " + ex.getMessage());
                     return null;
@@ -69,16 +63,14 @@ public class PlayerCurrencyHandler {
         PlayerRef playerRef = event.getPlayerRef();
         String playerUuid = playerRef.getUuid().toString();
 
-        // Save player data to database, then remove from cache
-        plugin.getCurrencyManager().savePlayer(playerUuid)
-                .thenRun(() -> {
-                    plugin.getCurrencyDataMap().remove(playerUuid);
-                    plugin.getLogger().atInfo().log("Saved and unloaded currency data for player " + playerRef.getUsername());
-                })
+        // Take the account offline and save it; it stays in memory for the grace period in case of a quick rejoin.
+        // A load still in flight is waited for so the account it caches is not left behind
+        CompletableFuture<CurrencyModel> loading = plugin.getCurrencyManager().getLoadingFuture(playerUuid);
+        CompletableFuture<?> loaded = loading != null ? loading.handle((model, ex) -> null) : CompletableFuture.completedFuture(null);
+        loaded.thenCompose(v -> plugin.getCurrencyManager().unloadPlayer(playerUuid))
+                .thenRun(() -> plugin.getLogger().atInfo().log("Saved and unloaded currency data for player " + playerRef.getUsername()))
                 .exceptionally(ex -> {
                     plugin.getLogger().atSevere().log("Failed to save currency data for player " + playerRef.getUsername() + ": " + ex.getMessage());
-                    // Still remove from cache to prevent memory leaks
-                    plugin.getCurrencyDataMap().remove(playerUuid);
                     return null;
                 });
     }
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.metrics;
+
+import com.reliableplugins.currency.api.BalanceHandle;
+import com.reliableplugins.currency.api.BalanceHolder;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * The {@link BalanceHandle} {@link MeteredEconomy} hands out: counts and times each balance
+ * call like the matching {@link com.reliableplugins.currency.api.Economy} method. The counters
+ * are looked up once per handle, since handles are meant for calls every tick.
+ */
+final class MeteredBalanceHandle implements BalanceHandle {
+
+    private final BalanceHandle delegate;
+    private final RateCounter balanceCalls;
+    private final RateCounter depositCalls;
+    private final RateCounter withdrawCalls;
+    private final RateCounter setCalls;
+    private final LatencyHistogram balanceLatency;
+    private final LatencyHistogram depositLatency;
+    private final LatencyHistogram withdrawLatency;
+    private final LatencyHistogram setLatency;
+
+    MeteredBalanceHandle(@Nonnull BalanceHandle delegate, @Nonnull MetricsRegistry metrics) {
+        this.delegate = delegate;
+        this.balanceCalls = metrics.operation("BalanceHandle.balance");
+        this.depositCalls = metrics.operation("BalanceHandle.deposit");
+        this.withdrawCalls = metrics.operation("BalanceHandle.withdraw");
+        this.setCalls = metrics.operation("BalanceHandle.set");
+        this.balanceLatency = metrics.economyLatency("BalanceHandle.balance");
+        this.depositLatency = metrics.economyLatency("BalanceHandle.deposit");
+        this.withdrawLatency = metrics.economyLatency("BalanceHandle.withdraw");
+        this.setLatency = metrics.economyLatency("BalanceHandle.set");
+    }
+
+    @Nonnull
+    @Override
+    public UUID getPlayerId() {
+        return delegate.getPlayerId();
+    }
+
+    @Nonnull
+    @Override
+    public String getCurrency() {
+        return delegate.getCurrency();
+    }
+
+    @Override
+    public int getDecimals() {
+        return delegate.getDecimals();
+    }
+
+    @Override
+    public int balance(@Nonnull BalanceHolder out) {
+        balanceCalls.mark();
+        long start = System.nanoTime();
+        try {
+            return delegate.balance(out);
+        } finally {
+            balanceLatency.recordSince(start);
+        }
+    }
+
+    @Override
+    public int deposit(long minorUnits, @Nonnull BalanceHolder out) {
+        depositCalls.mark();
+        long start = System.nanoTime();
+        try {
+            return delegate.deposit(minorUnits, out);
+        } finally {
+            depositLatency.recordSince(start);
+        }
+    }
+
+    @Override
+    public int withdraw(long minorUnits, @Nonnull BalanceHolder out) {
+        withdrawCalls.mark();
+        long start = System.nanoTime();
+        try {
+            return delegate.withdraw(minorUnits, out);
+        } finally {
+            withdrawLatency.recordSince(start);
+        }
+    }
+
+    @Override
+    public int set(long minorUnits, @Nonnull BalanceHolder out) {
+        setCalls.mark();
+        long start = System.nanoTime();
+        try {
+            return delegate.set(minorUnits, out);
+        } finally {
+            setLatency.recordSince(start);
+        }
+    }
+
+}
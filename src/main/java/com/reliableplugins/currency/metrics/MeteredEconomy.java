@@ -0,0 +1,333 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.metrics;
+
+import com.reliableplugins.currency.api.BalanceChange;
+import com.reliableplugins.currency.api.BalanceHandle;
+import com.reliableplugins.currency.api.ChangeFeedOverflow;
+import com.reliableplugins.currency.api.Economy;
+import com.reliableplugins.currency.api.EconomyResponse;
+import com.reliableplugins.currency.api.LeaderboardCursor;
+import com.reliableplugins.currency.api.LeaderboardEntry;
+import com.reliableplugins.currency.api.LeaderboardPage;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * The {@link Economy} registered for other plugins: counts every call per method and times the
+ * synchronous balance and leaderboard calls, then hands the call to the real implementation.
+ * Calls the implementation makes to itself, such as an async call served from the cache through
+ * its sync counterpart, are not counted twice.
+ */
+public class MeteredEconomy implements Economy {
+
+    private final Economy delegate;
+    private final MetricsRegistry metrics;
+
+    public MeteredEconomy(@Nonnull Economy delegate, @Nonnull MetricsRegistry metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    private void count(String operation) {
+        metrics.operation(operation).mark();
+    }
+
+    private long start(String operation) {
+        metrics.operation(operation).mark();
+        return System.nanoTime();
+    }
+
+    private void stop(String operation, long startNanos) {
+        metrics.economyLatency(operation).recordSince(startNanos);
+    }
+
+    @Nonnull
+    @Override
+    public String getDefaultCurrency() {
+        return delegate.getDefaultCurrency();
+    }
+
+    @Override
+    public boolean currencyExists(@Nonnull String currency) {
+        return delegate.currencyExists(currency);
+    }
+
+    @Nonnull
+    @Override
+    public String getCurrencyDisplayName(@Nonnull String currency) {
+        return delegate.getCurrencyDisplayName(currency);
+    }
+
+    @Nonnull
+    @Override
+    public String format(@Nonnull BigDecimal amount, @Nonnull String currency) {
+        count("format");
+        return delegate.format(amount, currency);
+    }
+
+    @Nonnull
+    @Override
+    public StringBuilder format(@Nonnull StringBuilder out, @Nonnull BigDecimal amount, @Nonnull String currency) {
+        count("format");
+        return delegate.format(out, amount, currency);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<Boolean> hasAccount(@Nonnull UUID playerId) {
+        count("hasAccount");
+        return delegate.hasAccount(playerId);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<EconomyResponse> createAccountAsync(@Nonnull UUID playerId, @Nonnull String playerName) {
+        count("createAccountAsync");
+        return delegate.createAccountAsync(playerId, playerName);
+    }
+
+    @Override
+    public boolean isPlayerOnline(@Nonnull UUID playerId) {
+        return delegate.isPlayerOnline(playerId);
+    }
+
+    @Override
+    public boolean isAccountLoading(@Nonnull UUID playerId) {
+        return delegate.isAccountLoading(playerId);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<Boolean> whenAccountReady(@Nonnull UUID playerId) {
+        return delegate.whenAccountReady(playerId);
+    }
+
+    @Nonnull
+    @Override
+    public BalanceHandle getBalanceHandle(@Nonnull UUID playerId, @Nonnull String currency) {
+        count("getBalanceHandle");
+        return new MeteredBalanceHandle(delegate.getBalanceHandle(playerId, currency), metrics);
+    }
+
+    @Nonnull
+    @Override
+    public EconomyResponse getBalance(@Nonnull UUID playerId, @Nonnull String currency) {
+        long start = start("getBalance");
+        try {
+            return delegate.getBalance(playerId, currency);
+        } finally {
+            stop("getBalance", start);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public EconomyResponse has(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
+        long start = start("has");
+        try {
+            return delegate.has(playerId, currency, amount);
+        } finally {
+            stop("has", start);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public EconomyResponse withdraw(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
+        long start = start("withdraw");
+        try {
+            return delegate.withdraw(playerId, currency, amount);
+        } finally {
+            stop("withdraw", start);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public EconomyResponse deposit(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
+        long start = start("deposit");
+        try {
+            return delegate.deposit(playerId, currency, amount);
+        } finally {
+            stop("deposit", start);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public EconomyResponse setBalance(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
+        long start = start("setBalance");
+        try {
+            return delegate.setBalance(playerId, currency, amount);
+        } finally {
+            stop("setBalance", start);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public EconomyResponse transfer(@Nonnull UUID fromId, @Nonnull UUID toId, @Nonnull String currency, @Nonnull BigDecimal amount) {
+        long start = start("transfer");
+        try {
+            return delegate.transfer(fromId, toId, currency, amount);
+        } finally {
+            stop("transfer", start);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<EconomyResponse> getBalanceAsync(@Nonnull UUID playerId, @Nonnull String currency) {
+        count("getBalanceAsync");
+        return delegate.getBalanceAsync(playerId, currency);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<EconomyResponse> hasAsync(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
+        count("hasAsync");
+        return delegate.hasAsync(playerId, currency, amount);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<EconomyResponse> withdrawAsync(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
+        count("withdrawAsync");
+        return delegate.withdrawAsync(playerId, currency, amount);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<EconomyResponse> depositAsync(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
+        count("depositAsync");
+        return delegate.depositAsync(playerId, currency, amount);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<EconomyResponse> setBalanceAsync(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
+        count("setBalanceAsync");
+        return delegate.setBalanceAsync(playerId, currency, amount);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<EconomyResponse> transferAsync(@Nonnull UUID fromId, @Nonnull UUID toId,
+                                                            @Nonnull String currency, @Nonnull BigDecimal amount) {
+        count("transferAsync");
+        return delegate.transferAsync(fromId, toId, currency, amount);
+    }
+
+    @Nonnull
+    @Override
+    public Map<UUID, BigDecimal> getTopBalances(@Nonnull String currency, int limit) {
+        long start = start("getTopBalances");
+        try {
+            return delegate.getTopBalances(currency, limit);
+        } finally {
+            stop("getTopBalances", start);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<Map<String, BigDecimal>> getTopBalancesAsync(@Nonnull String currency, int limit) {
+        count("getTopBalancesAsync");
+        return delegate.getTopBalancesAsync(currency, limit);
+    }
+
+    @Override
+    public int getRank(@Nonnull UUID playerId, @Nonnull String currency) {
+        long start = start("getRank");
+        try {
+            return delegate.getRank(playerId, currency);
+        } finally {
+            stop("getRank", start);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public List<LeaderboardEntry> getLeaderboardPage(@Nonnull String currency, int offset, int limit) {
+        long start = start("getLeaderboardPage");
+        try {
+            return delegate.getLeaderboardPage(currency, offset, limit);
+        } finally {
+            stop("getLeaderboardPage", start);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public List<LeaderboardEntry> getAccountsInRange(@Nonnull String currency, @Nonnull BigDecimal min,
+                                                     @Nonnull BigDecimal max, int limit) {
+        long start = start("getAccountsInRange");
+        try {
+            return delegate.getAccountsInRange(currency, min, max, limit);
+        } finally {
+            stop("getAccountsInRange", start);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<Integer> getRankAsync(@Nonnull UUID playerId, @Nonnull String currency) {
+        count("getRankAsync");
+        return delegate.getRankAsync(playerId, currency);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getLeaderboardPageAsync(@Nonnull String currency, int offset, int limit) {
+        count("getLeaderboardPageAsync");
+        return delegate.getLeaderboardPageAsync(currency, offset, limit);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<LeaderboardPage> getLeaderboardPageAsync(@Nonnull String currency, @Nullable LeaderboardCursor after, int limit) {
+        count("getLeaderboardPageAsync");
+        return delegate.getLeaderboardPageAsync(currency, after, limit);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getAccountsInRangeAsync(@Nonnull String currency, @Nonnull BigDecimal min,
+                                                                             @Nonnull BigDecimal max, int limit) {
+        count("getAccountsInRangeAsync");
+        return delegate.getAccountsInRangeAsync(currency, min, max, limit);
+    }
+
+    @Nonnull
+    @Override
+    public Flow.Publisher<BalanceChange> getBalanceChanges(@Nullable String currency, @Nullable UUID playerId,
+                                                           int bufferSize, @Nonnull ChangeFeedOverflow overflow) {
+        count("getBalanceChanges");
+        return delegate.getBalanceChanges(currency, playerId, bufferSize, overflow);
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.metrics;
+
+import com.reliableplugins.currency.api.LeaderboardCursor;
+import com.reliableplugins.currency.api.LeaderboardEntry;
+import com.reliableplugins.currency.config.CurrencyConfig;
+import com.reliableplugins.currency.model.CurrencyModel;
+import com.reliableplugins.currency.storage.CurrencyStorage;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Times every storage operation of a backend. Async operations are timed from the call until
+ * their future completes, so the figures include the time spent queued for a storage thread.
+ */
+public class MeteredStorage implements CurrencyStorage {
+
+    private final CurrencyStorage delegate;
+    private final MetricsRegistry metrics;
+
+    public MeteredStorage(CurrencyStorage delegate, MetricsRegistry metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    private <T> CompletableFuture<T> timed(String operation, long startNanos, CompletableFuture<T> future) {
+        LatencyHistogram latency = metrics.storageLatency(operation);
+        future.whenComplete((result, ex) -> latency.recordSince(startNanos));
+        return future;
+    }
+
+    @Override
+    public void initialize() {
+        delegate.initialize();
+    }
+
+    @Override
+    public CompletableFuture<CurrencyModel> loadAsync(String playerUuid) {
+        return timed("load", System.nanoTime(), delegate.loadAsync(playerUuid));
+    }
+
+    @Override
+    public CompletableFuture<CurrencyModel> loadByNameAsync(String playerName) {
+        return timed("loadByName", System.nanoTime(), delegate.loadByNameAsync(playerName));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAsync(String playerId, CurrencyModel model) {
+        return timed("save", System.nanoTime(), delegate.saveAsync(playerId, model));
+    }
+
+    @Override
+    public void saveAll() {
+        long start = System.nanoTime();
+        try {
+            delegate.saveAll();
+        } finally {
+            metrics.storageLatency("saveAll").recordSince(start);
+        }
+    }
+
+    @Override
+    public void addCurrency(String currencyId) {
+        delegate.addCurrency(currencyId);
+    }
+
+    @Override
+    public void prepareCurrencies(CurrencyConfig config) {
+        delegate.prepareCurrencies(config);
+    }
+
+    @Override
+    public void removeCurrency(String currencyId, boolean deleteData) {
+        delegate.removeCurrency(currencyId, deleteData);
+    }
+
+    @Override
+    public void unload() {
+        delegate.unload();
+    }
+
+    @Override
+    public CompletableFuture<Map<String, BigDecimal>> getTopBalances(String currencyId, int limit) {
+        return timed("topBalances", System.nanoTime(), delegate.getTopBalances(currencyId, limit));
+    }
+
+    @Override
+    public CompletableFuture<Integer> getRank(String currencyId, String playerUuid, BigDecimal balance) {
+        return timed("rank", System.nanoTime(), delegate.getRank(currencyId, playerUuid, balance));
+    }
+
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getLeaderboardPage(String currencyId, int offset, int limit) {
+        return timed("leaderboardPage", System.nanoTime(), delegate.getLeaderboardPage(currencyId, offset, limit));
+    }
+
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getLeaderboardPageAfter(String currencyId, LeaderboardCursor after, int limit) {
+        return timed("leaderboardPageAfter", System.nanoTime(), delegate.getLeaderboardPageAfter(currencyId, after, limit));
+    }
+
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getBalancesInRange(String currencyId, BigDecimal min, BigDecimal max, int limit) {
+        return timed("balancesInRange", System.nanoTime(), delegate.getBalancesInRange(currencyId, min, max, limit));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> loadPlayerNames(int limit) {
+        return timed("loadNames", System.nanoTime(), delegate.loadPlayerNames(limit));
+    }
+
+    @Override
+    public boolean savePlayerNames(Map<String, String> names) {
+        long start = System.nanoTime();
+        try {
+            return delegate.savePlayerNames(names);
+        } finally {
+            metrics.storageLatency("saveNames").recordSince(start);
+        }
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return delegate.getMaxConcurrency();
+    }
+
+    @Override
+    public String getPoolStats() {
+        return delegate.getPoolStats();
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.metrics;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Named counters, latency histograms and cache hit ratios, created on first use.
+ * Recording only touches atomics of the metric itself; looking a metric up by name
+ * is a plain concurrent map read once it exists.
+ */
+public class MetricsRegistry {
+
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<String, RateCounter> operations = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> economyLatencies = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> storageLatencies = new ConcurrentHashMap<>();
+    private final Map<String, HitRatio> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @return The call counter of an Economy method
+     */
+    @Nonnull
+    public RateCounter operation(@Nonnull String name) {
+        return lookup(operations, name, RateCounter::new);
+    }
+
+    /**
+     * @return The latency of a synchronous Economy method
+     */
+    @Nonnull
+    public LatencyHistogram economyLatency(@Nonnull String name) {
+        return lookup(economyLatencies, name, LatencyHistogram::new);
+    }
+
+    /**
+     * @return The latency of a storage operation, from the call until its future completes
+     */
+    @Nonnull
+    public LatencyHistogram storageLatency(@Nonnull String name) {
+        return lookup(storageLatencies, name, LatencyHistogram::new);
+    }
+
+    @Nonnull
+    public HitRatio cache(@Nonnull String name) {
+        return lookup(caches, name, HitRatio::new);
+    }
+
+    public long getUptimeMillis() {
+        return System.currentTimeMillis() - startedAt;
+    }
+
+    @Nonnull
+    public Map<String, RateCounter> getOperations() {
+        return sorted(operations);
+    }
+
+    @Nonnull
+    public Map<String, LatencyHistogram> getEconomyLatencies() {
+        return sorted(economyLatencies);
+    }
+
+    @Nonnull
+    public Map<String, LatencyHistogram> getStorageLatencies() {
+        return sorted(storageLatencies);
+    }
+
+    @Nonnull
+    public Map<String, HitRatio> getCaches() {
+        return sorted(caches);
+    }
+
+    private static <T> T lookup(Map<String, T> metrics, String name, Supplier<T> factory) {
+        T metric = metrics.get(name);
+        return metric != null ? metric : metrics.computeIfAbsent(name, k -> factory.get());
+    }
+
+    private static <T> Map<String, T> sorted(Map<String, T> metrics) {
+        return Collections.unmodifiableMap(new TreeMap<>(metrics));
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts events and their recent rate. The last minute is kept in one-second buckets that are
+ * reused round-robin, so marking is a couple of atomic operations and never blocks. A mark racing
+ * the reset of its bucket at a second boundary may be dropped from the rate, never from the total.
+ */
+public final class RateCounter {
+
+    // Power of two above the longest window
+    private static final int BUCKETS = 64;
+    public static final int MAX_WINDOW_SECONDS = 60;
+
+    private final LongAdder total = new LongAdder();
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray seconds = new AtomicLongArray(BUCKETS);
+
+    public void mark() {
+        total.increment();
+        long second = System.currentTimeMillis() / 1000;
+        int slot = (int) (second & (BUCKETS - 1));
+        long tagged = seconds.get(slot);
+        if (tagged != second && seconds.compareAndSet(slot, tagged, second)) {
+            counts.set(slot, 0);
+        }
+        counts.incrementAndGet(slot);
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * @param windowSeconds The number of completed seconds to average over, at most {@value #MAX_WINDOW_SECONDS}
+     * @return Events per second over the window
+     */
+    public double getRate(int windowSeconds) {
+        int window = Math.max(1, Math.min(MAX_WINDOW_SECONDS, windowSeconds));
+        long now = System.currentTimeMillis() / 1000;
+        long sum = 0;
+        for (long second = now - window; second < now; second++) {
+            int slot = (int) (second & (BUCKETS - 1));
+            if (seconds.get(slot) == second) {
+                sum += counts.get(slot);
+            }
+        }
+        return (double) sum / window;
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.model;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A currency's {@code format} string compiled once into literal segments around the
+ * {@code %amount%} placeholders. {@code %symbol%} and {@code %name%} never change for a
+ * currency, so they are folded into the literals at compile time and rendering only has
+ * to write the amount.
+ */
+public final class CurrencyFormat {
+
+    public static final String AMOUNT_PLACEHOLDER = "%amount%";
+    public static final String SYMBOL_PLACEHOLDER = "%symbol%";
+    public static final String NAME_PLACEHOLDER = "%name%";
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+    private static final int MAX_BUFFER_CAPACITY = 1024;
+
+    // literals[i] is written before the i-th amount, the last literal after the last amount
+    private final String[] literals;
+    private final String groupingSeparator;
+    private final String decimalSeparator;
+    private final int displayDecimals;
+    private final boolean plainNumber;
+
+    private CurrencyFormat(String[] literals, String groupingSeparator, String decimalSeparator, int displayDecimals) {
+        this.literals = literals;
+        this.groupingSeparator = groupingSeparator;
+        this.decimalSeparator = decimalSeparator;
+        this.displayDecimals = displayDecimals;
+        this.plainNumber = groupingSeparator.isEmpty() && ".".equals(decimalSeparator);
+    }
+
+    /**
+     * @param pattern           The format string, {@code %amount%} if null
+     * @param groupingSeparator Written between groups of three integer digits, or null/empty for none
+     * @param decimalSeparator  Written before the fraction, "." if null
+     * @param displayDecimals   Fraction digits to show (truncating), or a negative value to show the amount as stored
+     */
+    @Nonnull
+    public static CurrencyFormat compile(@Nullable String pattern, @Nullable String symbol, @Nullable String name,
+                                         @Nullable String groupingSeparator, @Nullable String decimalSeparator, int displayDecimals) {
+        String source = pattern != null ? pattern : AMOUNT_PLACEHOLDER;
+        String symbolText = symbol != null ? symbol : "";
+        String nameText = name != null ? name : "";
+
+        int count = 1;
+        for (int i = source.indexOf(AMOUNT_PLACEHOLDER); i >= 0; i = source.indexOf(AMOUNT_PLACEHOLDER, i + AMOUNT_PLACEHOLDER.length())) {
+            count++;
+        }
+        String[] literals = new String[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = i < count - 1 ? source.indexOf(AMOUNT_PLACEHOLDER, start) : source.length();
+            literals[i] = source.substring(start, end)
+                    .replace(SYMBOL_PLACEHOLDER, symbolText)
+                    .replace(NAME_PLACEHOLDER, nameText);
+            start = end + AMOUNT_PLACEHOLDER.length();
+        }
+
+        return new CurrencyFormat(literals,
+                groupingSeparator != null ? groupingSeparator : "",
+                decimalSeparator != null ? decimalSeparator : ".",
+                displayDecimals);
+    }
+
+    /**
+     * Format an amount into a string, reusing a per-thread buffer.
+     */
+    @Nonnull
+    public String format(@Nonnull BigDecimal amount) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        String result = appendTo(buffer, amount).toString();
+        if (buffer.capacity() > MAX_BUFFER_CAPACITY) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Append a formatted amount to a caller-owned builder.
+     *
+     * @return The builder
+     */
+    @Nonnull
+    public StringBuilder appendTo(@Nonnull StringBuilder out, @Nonnull BigDecimal amount) {
+        BigDecimal shown = displayDecimals >= 0 ? amount.setScale(displayDecimals, RoundingMode.DOWN) : amount;
+        String digits = shown.toPlainString();
+
+        out.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            appendNumber(out, digits);
+            out.append(literals[i]);
+        }
+        return out;
+    }
+
+    private void appendNumber(StringBuilder out, String digits) {
+        if (plainNumber) {
+            out.append(digits);
+            return;
+        }
+
+        int length = digits.length();
+        int start = 0;
+        if (digits.charAt(0) == '-') {
+            out.append('-');
+            start = 1;
+        }
+        int point = digits.indexOf('.', start);
+        int integerEnd = point >= 0 ? point : length;
+
+        for (int i = start; i < integerEnd; i++) {
+            out.append(digits.charAt(i));
+            int remaining = integerEnd - 1 - i;
+            if (remaining > 0 && remaining % 3 == 0) {
+                out.append(groupingSeparator);
+            }
+        }
+        if (point >= 0) {
+            out.append(decimalSeparator).append(digits, point + 1, length);
+        }
+    }
+
+}
@@ -19,32 +19,278 @@
 package com.reliableplugins.currency.model;
 
 import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.config.CurrencyConfig;
+import com.reliableplugins.currency.feed.BalanceChangeFeed;
+import com.reliableplugins.currency.leaderboard.LeaderboardManager;
+import com.reliableplugins.currency.leaderboard.LeaderboardSnapshotService;
 import com.reliableplugins.currency.storage.CurrencyStorage;
+import com.reliableplugins.currency.storage.StorageLane;
+import com.hypixel.hytale.server.core.HytaleServer;
 
+import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public class CurrencyManager {
 
     private final HyCurrencyPlugin plugin;
     private final CurrencyStorage storage;
+    private final LeaderboardManager leaderboardManager;
+    private final LeaderboardSnapshotService leaderboardSnapshots;
+    private final PlayerNameCache nameCache;
+    private final BalanceChangeFeed changeFeed;
+    // Accounts of joining players whose load has not finished, completing once the account is cached
+    private final Map<String, CompletableFuture<CurrencyModel>> loading = new ConcurrentHashMap<>();
+    // Accounts of players who left recently, kept until their save is done and the grace period has passed
+    private final Map<String, RetainedAccount> retained = new ConcurrentHashMap<>();
 
-    private final Map<String, Map<String, BigDecimal>> leaderboardCache = new ConcurrentHashMap<>();
-    private static final int DEFAULT_LEADERBOARD_LIMIT = 1000;
+    private ScheduledFuture<?> nameSaves;
 
     public CurrencyManager(HyCurrencyPlugin plugin, CurrencyStorage storage) {
         this.plugin = plugin;
         this.storage = storage;
+        this.leaderboardManager = new LeaderboardManager(plugin.getCurrencyConfig());
+        this.leaderboardSnapshots = new LeaderboardSnapshotService(plugin, this);
+        this.changeFeed = new BalanceChangeFeed(plugin);
+
+        int nameCacheSize = plugin.getPluginConfig().getLeaderboard().getNameCacheSize();
+        this.nameCache = new PlayerNameCache(nameCacheSize);
+        storage.loadPlayerNames(nameCacheSize)
+                .thenAccept(nameCache::load)
+                .exceptionally(ex -> {
+                    plugin.getLogger().atWarning().log("Failed to load player names: " + ex.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * Give the model every auto-grant currency it does not hold yet, at the currency's default amount.
+     */
+    public void grantDefaults(CurrencyModel model, @Nullable CurrencyConfig currencyConfig) {
+        if (currencyConfig == null || currencyConfig.getCurrencies() == null) return;
+        currencyConfig.getCurrencies().forEach((currencyId, currencyEntry) -> {
+            if (currencyEntry.isAutoGrant() && !model.hasCurrency(currencyId)) {
+                model.setCurrency(currencyId, currencyEntry.getDefaultAmount());
+                plugin.getLogger().atInfo().log("Auto-granted currency '" + currencyId + "' with default amount " + currencyEntry.getDefaultAmount() + " to player " + model.getPlayerName());
+            }
+        });
+    }
+
+    /**
+     * Bring the cached accounts in line with a currency configuration that was just swapped in:
+     * leaderboard indexes follow the new leaderboard flags and online players receive new auto-grant currencies.
+     */
+    public void applyCurrencyConfig(CurrencyConfig currencyConfig) {
+        Map<String, CurrencyModel> online = plugin.getCurrencyDataMap();
+        leaderboardManager.reconfigure(currencyConfig, online);
+        online.values().forEach(model -> grantDefaults(model, currencyConfig));
+    }
+
+    /**
+     * Start the background work: leaderboard snapshot refreshes and periodic name saves.
+     */
+    public void start() {
+        leaderboardSnapshots.start();
+        long interval = plugin.getPluginConfig().getLeaderboard().getNameSaveIntervalSeconds();
+        nameSaves = HytaleServer.SCHEDULED_EXECUTOR.scheduleWithFixedDelay(this::saveNames, interval, interval, TimeUnit.SECONDS);
+    }
+
+    // Persist the names learned since the last save on the background lane, keeping them if that fails
+    private void saveNames() {
+        if (!nameCache.hasChanges()) {
+            return;
+        }
+        Map<String, String> changes = nameCache.drainChanges();
+        plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> storage.savePlayerNames(changes))
+                .whenComplete((saved, ex) -> {
+                    if (ex != null || !saved) {
+                        nameCache.restoreChanges(changes);
+                    }
+                });
     }
 
     public CurrencyStorage getStorage() {
         return storage;
     }
 
-    public CompletableFuture<CurrencyModel> loadPlayer(String playerUuid) {
-        return storage.loadAsync(playerUuid);
+    public LeaderboardManager getLeaderboardManager() {
+        return leaderboardManager;
+    }
+
+    public LeaderboardSnapshotService getLeaderboardSnapshots() {
+        return leaderboardSnapshots;
+    }
+
+    public PlayerNameCache getNameCache() {
+        return nameCache;
+    }
+
+    public BalanceChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    /**
+     * Put a loaded model into the online cache, replacing (and untracking) any previous model.
+     */
+    public void cachePlayer(String playerUuid, CurrencyModel model) {
+        CurrencyModel previous = plugin.getCurrencyDataMap().put(playerUuid, model);
+        if (previous != null && previous != model) {
+            previous.setChangeListener(null);
+        }
+        observe(playerUuid, model, true);
+        leaderboardManager.track(playerUuid, model);
+        if (model.getPlayerName() != null) {
+            try {
+                nameCache.putIfAbsent(UUID.fromString(playerUuid), model.getPlayerName());
+            } catch (IllegalArgumentException ignored) {}
+        }
+    }
+
+    public void uncachePlayer(String playerUuid) {
+        CurrencyModel model = plugin.getCurrencyDataMap().remove(playerUuid);
+        if (model != null) {
+            leaderboardManager.untrack(playerUuid);
+            observe(playerUuid, model, false);
+        }
+    }
+
+    /**
+     * Route the model's balance changes to the change feed and, while the player is online, to the leaderboards.
+     */
+    private void observe(String playerUuid, CurrencyModel model, boolean online) {
+        UUID playerId;
+        try {
+            playerId = UUID.fromString(playerUuid);
+        } catch (IllegalArgumentException e) {
+            model.setChangeListener(null);
+            return;
+        }
+        model.setChangeListener((currency, oldAmount, newAmount) -> {
+            if (online) {
+                leaderboardManager.update(playerId, currency, newAmount);
+            }
+            changeFeed.publish(playerId, currency, oldAmount, newAmount);
+        });
+    }
+
+    /**
+     * Take a disconnecting player's account offline and save it. The model stays retained until
+     * the save has finished and the disconnect grace period has passed, so a quick rejoin or an
+     * offline API call is served from memory and no storage read can overtake the save.
+     *
+     * @return The disconnect save
+     */
+    public CompletableFuture<Void> unloadPlayer(String playerUuid) {
+        CurrencyModel model = plugin.getCurrencyDataMap().get(playerUuid);
+        if (model == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        RetainedAccount account = new RetainedAccount(model);
+        // Retain before going offline so there is no moment a read would fall through to storage
+        retained.put(playerUuid, account);
+        uncachePlayer(playerUuid);
+
+        long graceSeconds = plugin.getPluginConfig().getDisconnectGraceSeconds();
+        CompletableFuture<Void> save = storage.saveAsync(playerUuid, model);
+        save.whenComplete((v, ex) -> CompletableFuture.delayedExecutor(graceSeconds, TimeUnit.SECONDS)
+                .execute(() -> retained.remove(playerUuid, account)));
+        return save;
+    }
+
+    /**
+     * Get the account of a player who is not online: the retained model if they left recently,
+     * otherwise a fresh load from storage.
+     */
+    public CompletableFuture<CurrencyModel> loadOfflinePlayer(String playerUuid) {
+        RetainedAccount account = retained.get(playerUuid);
+        plugin.getMetrics().cache("retained accounts").record(account != null);
+        if (account != null) {
+            return CompletableFuture.completedFuture(account.model());
+        }
+        return storage.loadAsync(playerUuid).thenApply(model -> {
+            if (model != null) {
+                observe(playerUuid, model, false);
+            }
+            return model;
+        });
+    }
+
+    /**
+     * @return Whether a recently disconnected player's account is still held in memory
+     */
+    public boolean isRetained(String playerUuid) {
+        return retained.containsKey(playerUuid);
+    }
+
+    public int getLoadingCount() {
+        return loading.size();
+    }
+
+    public int getRetainedCount() {
+        return retained.size();
+    }
+
+    /**
+     * Load a joining player's account and cache it. While the load runs the account is
+     * {@linkplain #isLoading(String) loading}, and loading it again joins the same load.
+     * An account retained from a recent disconnect is reused without reading storage.
+     *
+     * @param prepare Applied to the loaded model before it becomes visible to other callers
+     * @return A future completing with the cached model
+     */
+    public CompletableFuture<CurrencyModel> loadPlayer(String playerUuid, @Nullable Consumer<CurrencyModel> prepare) {
+        CompletableFuture<CurrencyModel> ready = new CompletableFuture<>();
+        CompletableFuture<CurrencyModel> existing = loading.putIfAbsent(playerUuid, ready);
+        if (existing != null) {
+            return existing;
+        }
+
+        RetainedAccount account = retained.remove(playerUuid);
+        plugin.getMetrics().cache("retained accounts").record(account != null);
+        CompletableFuture<CurrencyModel> source = account != null
+                ? CompletableFuture.completedFuture(account.model())
+                : storage.loadAsync(playerUuid);
+        source.whenComplete((model, ex) -> {
+            if (ex == null) {
+                try {
+                    if (prepare != null) {
+                        prepare.accept(model);
+                    }
+                    // Cache before leaving the loading state so callers never see the account as neither
+                    cachePlayer(playerUuid, model);
+                } catch (RuntimeException e) {
+                    ex = e;
+                }
+            }
+            loading.remove(playerUuid, ready);
+            if (ex != null) {
+                ready.completeExceptionally(ex);
+            } else {
+                ready.complete(model);
+            }
+        });
+        return ready;
+    }
+
+    /**
+     * @return Whether the player's account is being loaded and not cached yet
+     */
+    public boolean isLoading(String playerUuid) {
+        return loading.containsKey(playerUuid);
+    }
+
+    /**
+     * @return The in-flight load of the player's account, or null if it is not loading
+     */
+    @Nullable
+    public CompletableFuture<CurrencyModel> getLoadingFuture(String playerUuid) {
+        return loading.get(playerUuid);
     }
 
     public CompletableFuture<Void> savePlayer(String playerUuid) {
@@ -59,6 +305,19 @@ public class CurrencyManager {
         return plugin.getCurrencyDataMap().get(playerUuid);
     }
 
+    /**
+     * Get the cached model of an online player, waiting for their account to finish loading first.
+     *
+     * @return A future completing with the model, or with null if the account is neither cached nor loading
+     */
+    public CompletableFuture<CurrencyModel> getLoadedPlayerData(String playerUuid) {
+        CompletableFuture<CurrencyModel> pending = loading.get(playerUuid);
+        if (pending != null) {
+            return pending.handle((model, ex) -> getPlayerData(playerUuid));
+        }
+        return CompletableFuture.completedFuture(getPlayerData(playerUuid));
+    }
+
     public BigDecimal getBalance(String playerUuid, String currencyId) {
         CurrencyModel model = getPlayerData(playerUuid);
         return model != null ? model.getCurrency(currencyId) : BigDecimal.ZERO;
@@ -82,23 +341,18 @@ public class CurrencyManager {
         return getBalance(playerUuid, currencyId).compareTo(amount) >= 0;
     }
 
-    public CompletableFuture<Map<String, BigDecimal>> getTopBalances(String currencyId) {
-        return getTopBalances(currencyId, DEFAULT_LEADERBOARD_LIMIT);
-    }
-
-    public CompletableFuture<Map<String, BigDecimal>> getTopBalances(String currencyId, int limit) {
-        return storage.getTopBalances(currencyId, limit)
-                .thenApply(results -> {
-                    leaderboardCache.put(currencyId, results);
-                    return results;
-                });
-    }
-
-    public Map<String, BigDecimal> getCachedLeaderboard(String currencyId) {
-        return leaderboardCache.get(currencyId);
-    }
-
     public void shutdown() {
+        if (nameSaves != null) {
+            nameSaves.cancel(false);
+        }
+        leaderboardSnapshots.shutdown();
+        changeFeed.shutdown();
+        if (nameCache.hasChanges()) {
+            storage.savePlayerNames(nameCache.drainChanges());
+        }
         storage.unload();
     }
+
+    private record RetainedAccount(CurrencyModel model) {
+    }
 }
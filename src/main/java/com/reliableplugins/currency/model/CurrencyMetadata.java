@@ -29,6 +29,16 @@ public class CurrencyMetadata {
     private boolean leaderboard;
     private boolean autoGrant = false;
     private BigDecimal defaultAmount = BigDecimal.ZERO;
+    // Number of minor units per major unit as a power of ten, e.g. 2 for cents
+    private int decimals = 2;
+    // Display options, see CurrencyFormat
+    private boolean grouping = false;
+    private String groupingSeparator = ",";
+    private String decimalSeparator = ".";
+    private int displayDecimals = -1;
+
+    // Compiled once when the config is loaded; configs are replaced on reload, never mutated
+    private transient volatile CurrencyFormat formatter;
 
     // Required by Gson
     public CurrencyMetadata() {
@@ -76,8 +86,41 @@ public class CurrencyMetadata {
         return defaultAmount != null ? defaultAmount : BigDecimal.ZERO;
     }
 
-    public String formatAmount(String amount) {
-        return format.replace("%symbol%", symbol).replace("%amount%", amount);
+    public int getDecimals() {
+        return Math.max(0, Math.min(18, decimals));
+    }
+
+    public boolean isGrouping() {
+        return grouping;
+    }
+
+    public String getGroupingSeparator() {
+        return groupingSeparator != null ? groupingSeparator : ",";
+    }
+
+    public String getDecimalSeparator() {
+        return decimalSeparator != null ? decimalSeparator : ".";
+    }
+
+    /**
+     * @return Fraction digits shown when formatting, or -1 to show amounts as stored
+     */
+    public int getDisplayDecimals() {
+        return displayDecimals < 0 ? -1 : Math.min(18, displayDecimals);
+    }
+
+    public CurrencyFormat getFormatter() {
+        CurrencyFormat compiled = formatter;
+        if (compiled == null) {
+            compiled = CurrencyFormat.compile(format, symbol, name,
+                    grouping ? getGroupingSeparator() : null, getDecimalSeparator(), getDisplayDecimals());
+            formatter = compiled;
+        }
+        return compiled;
+    }
+
+    public String formatAmount(BigDecimal amount) {
+        return getFormatter().format(amount);
     }
 
 }
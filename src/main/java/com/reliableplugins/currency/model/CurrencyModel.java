@@ -31,6 +31,9 @@ public class CurrencyModel {
     // Map of currency ID to amount
     private final Map<String, BigDecimal> currencies = new HashMap<>();
 
+    // Notified after every balance change while the model is cached, retained or loaded for an offline change
+    private volatile ChangeListener changeListener;
+
     @Nullable
     public String getPlayerName() {
         return playerName;
@@ -40,16 +43,31 @@ public class CurrencyModel {
         this.playerName = playerName;
     }
 
+    @Nullable
+    public ChangeListener getChangeListener() {
+        return changeListener;
+    }
+
+    public void setChangeListener(@Nullable ChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+
     public void addCurrency(String currency) {
-        currencies.putIfAbsent(currency, BigDecimal.ZERO);
+        if (currencies.putIfAbsent(currency, BigDecimal.ZERO) == null) {
+            notifyChange(currency, BigDecimal.ZERO, BigDecimal.ZERO);
+        }
     }
 
     public void setCurrency(String currency, BigDecimal amount) {
-        currencies.put(currency, amount);
+        BigDecimal previous = currencies.put(currency, amount);
+        notifyChange(currency, previous != null ? previous : BigDecimal.ZERO, amount);
     }
 
     public void addAmount(String currency, BigDecimal amount) {
-        currencies.put(currency, getCurrency(currency).add(amount));
+        BigDecimal oldAmount = getCurrency(currency);
+        BigDecimal newAmount = oldAmount.add(amount);
+        currencies.put(currency, newAmount);
+        notifyChange(currency, oldAmount, newAmount);
     }
 
     public boolean hasCurrency(String currency) {
@@ -65,7 +83,22 @@ public class CurrencyModel {
     }
 
     public void removeCurrency(String currency) {
-        currencies.remove(currency);
+        BigDecimal previous = currencies.remove(currency);
+        if (previous != null) {
+            notifyChange(currency, previous, BigDecimal.ZERO);
+        }
+    }
+
+    private void notifyChange(String currency, BigDecimal oldAmount, BigDecimal newAmount) {
+        ChangeListener listener = changeListener;
+        if (listener != null) {
+            listener.onCurrencyChange(currency, oldAmount, newAmount);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChangeListener {
+        void onCurrencyChange(String currency, BigDecimal oldAmount, BigDecimal newAmount);
     }
 
 }
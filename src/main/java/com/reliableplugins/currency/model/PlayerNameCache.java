@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.model;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded UUID to display-name cache used to render leaderboards and balances
+ * and to find players by name without looking them up in the Universe or the database.
+ * <p>
+ * Names are fed by player connects (exact casing) and by storage loads, and the
+ * least recently used names are evicted once the capacity is reached. Names learned
+ * from connects are persisted through the storage backend periodically and on shutdown,
+ * and reloaded on startup.
+ */
+public class PlayerNameCache {
+
+    // Lowercased name -> player, for case-insensitive lookups
+    private final Map<String, UUID> players = new HashMap<>();
+    private final Map<UUID, String> names;
+    // Names learned since the last save, least recently changed first
+    private final Map<UUID, String> changes = new LinkedHashMap<>();
+
+    public PlayerNameCache(int capacity) {
+        this.names = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, String> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                players.remove(key(eldest.getValue()), eldest.getKey());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Record the current name of a player, replacing any known name.
+     */
+    public synchronized void put(@Nonnull UUID playerId, @Nullable String name) {
+        if (name == null || name.isBlank()) {
+            return;
+        }
+        String previous = index(playerId, name);
+        if (!name.equals(previous)) {
+            changes.remove(playerId);
+            changes.put(playerId, name);
+        }
+    }
+
+    /**
+     * Record a name only if none is known yet, e.g. a lowercased name read back from storage.
+     * Such names are not persisted.
+     */
+    public synchronized void putIfAbsent(@Nonnull UUID playerId, @Nullable String name) {
+        if (name == null || name.isBlank() || names.containsKey(playerId)) {
+            return;
+        }
+        index(playerId, name);
+    }
+
+    @Nullable
+    public synchronized String get(@Nonnull UUID playerId) {
+        return names.get(playerId);
+    }
+
+    /**
+     * @return The player last seen with this name, ignoring case, or null if the name is not cached
+     */
+    @Nullable
+    public synchronized UUID findPlayer(@Nonnull String name) {
+        UUID playerId = players.get(key(name));
+        if (playerId != null) {
+            // Counts as a use of the entry
+            names.get(playerId);
+        }
+        return playerId;
+    }
+
+    /**
+     * @return The cached name, else the fallback, else the UUID as a string
+     */
+    @Nonnull
+    public String resolve(@Nonnull UUID playerId, @Nullable String fallback) {
+        String name = get(playerId);
+        if (name != null) {
+            return name;
+        }
+        return fallback != null ? fallback : playerId.toString();
+    }
+
+    /**
+     * Add persisted names without overriding names learned since startup.
+     *
+     * @param stored UUID string to name, least recently used first
+     */
+    public synchronized void load(@Nonnull Map<String, String> stored) {
+        for (Map.Entry<String, String> entry : stored.entrySet()) {
+            try {
+                UUID playerId = UUID.fromString(entry.getKey());
+                if (entry.getValue() != null && !names.containsKey(playerId)) {
+                    index(playerId, entry.getValue());
+                }
+            } catch (IllegalArgumentException ignored) {}
+        }
+    }
+
+    /**
+     * @return Whether names were learned since the last {@link #drainChanges()}
+     */
+    public synchronized boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Take the names learned since the last call, to persist them.
+     *
+     * @return UUID string to name, least recently changed first
+     */
+    @Nonnull
+    public synchronized Map<String, String> drainChanges() {
+        Map<String, String> drained = new LinkedHashMap<>();
+        for (Map.Entry<UUID, String> entry : changes.entrySet()) {
+            drained.put(entry.getKey().toString(), entry.getValue());
+        }
+        changes.clear();
+        return drained;
+    }
+
+    /**
+     * Hand back drained names that could not be persisted, unless they changed again since.
+     */
+    public synchronized void restoreChanges(@Nonnull Map<String, String> drained) {
+        Map<UUID, String> newer = new LinkedHashMap<>(changes);
+        changes.clear();
+        for (Map.Entry<String, String> entry : drained.entrySet()) {
+            changes.put(UUID.fromString(entry.getKey()), entry.getValue());
+        }
+        newer.forEach((playerId, name) -> {
+            changes.remove(playerId);
+            changes.put(playerId, name);
+        });
+    }
+
+    // Caches the name and returns the one it replaced
+    @Nullable
+    private String index(UUID playerId, String name) {
+        String previous = names.put(playerId, name);
+        if (previous != null) {
+            players.remove(key(previous), playerId);
+        }
+        players.put(key(name), playerId);
+        return previous;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.service;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.api.BalanceHandle;
+import com.reliableplugins.currency.api.BalanceHolder;
+import com.reliableplugins.currency.api.EconomyStatus;
+import com.reliableplugins.currency.model.CurrencyManager;
+import com.reliableplugins.currency.model.CurrencyMetadata;
+import com.reliableplugins.currency.model.CurrencyModel;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+/**
+ * {@link BalanceHandle} over the cached player models.
+ * <p>
+ * Balances are stored as {@link BigDecimal}, so the handle remembers the last balance it
+ * converted to minor units: as long as nothing else changed the balance in between, reads
+ * allocate nothing and a change allocates only the new balance. Balances with more decimals
+ * than the currency's minor unit are changed through exact decimal arithmetic instead.
+ */
+final class CurrencyBalanceHandle implements BalanceHandle {
+
+    private final HyCurrencyPlugin plugin;
+    private final CurrencyManager currencyManager;
+    private final CurrencyEventDispatcher events;
+    private final UUID playerId;
+    private final String playerUuid;
+    private final String currency;
+
+    // Last balance converted to minor units, compared by identity
+    private BigDecimal cachedBalance;
+    private int cachedDecimals = -1;
+    private long cachedMinor;
+    private boolean cachedExact;
+
+    CurrencyBalanceHandle(HyCurrencyPlugin plugin, CurrencyManager currencyManager, CurrencyEventDispatcher events,
+                          UUID playerId, String currency) {
+        this.plugin = plugin;
+        this.currencyManager = currencyManager;
+        this.events = events;
+        this.playerId = playerId;
+        this.playerUuid = playerId.toString();
+        this.currency = currency;
+    }
+
+    @Nonnull
+    @Override
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    @Nonnull
+    @Override
+    public String getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public int getDecimals() {
+        CurrencyMetadata metadata = plugin.getCurrencyConfig().getCurrency(currency);
+        return metadata != null ? metadata.getDecimals() : 0;
+    }
+
+    @Override
+    public int balance(@Nonnull BalanceHolder out) {
+        CurrencyMetadata metadata = plugin.getCurrencyConfig().getCurrency(currency);
+        if (metadata == null) {
+            return EconomyStatus.INVALID_CURRENCY;
+        }
+        CurrencyModel model = plugin.getCurrencyDataMap().get(playerUuid);
+        if (model == null) {
+            return notOnline();
+        }
+        out.set(toMinor(model.getCurrency(currency), metadata.getDecimals()));
+        return EconomyStatus.SUCCESS;
+    }
+
+    @Override
+    public int deposit(long minorUnits, @Nonnull BalanceHolder out) {
+        if (minorUnits <= 0) {
+            return EconomyStatus.INVALID_AMOUNT;
+        }
+        return change(minorUnits, false, out);
+    }
+
+    @Override
+    public int withdraw(long minorUnits, @Nonnull BalanceHolder out) {
+        if (minorUnits <= 0) {
+            return EconomyStatus.INVALID_AMOUNT;
+        }
+        return change(-minorUnits, false, out);
+    }
+
+    @Override
+    public int set(long minorUnits, @Nonnull BalanceHolder out) {
+        if (minorUnits < 0) {
+            return EconomyStatus.INVALID_AMOUNT;
+        }
+        return change(minorUnits, true, out);
+    }
+
+    private int change(long minorUnits, boolean absolute, BalanceHolder out) {
+        CurrencyMetadata metadata = plugin.getCurrencyConfig().getCurrency(currency);
+        if (metadata == null) {
+            return EconomyStatus.INVALID_CURRENCY;
+        }
+        CurrencyModel model = plugin.getCurrencyDataMap().get(playerUuid);
+        if (model == null) {
+            return notOnline();
+        }
+
+        int decimals = metadata.getDecimals();
+        BigDecimal balance = model.getCurrency(currency);
+        long current = toMinor(balance, decimals);
+
+        BigDecimal newBalance;
+        long newMinor;
+        if (absolute) {
+            newMinor = minorUnits;
+            newBalance = BigDecimal.valueOf(newMinor, decimals);
+        } else if (cachedExact && !overflows(current, minorUnits)) {
+            newMinor = current + minorUnits;
+            if (newMinor < 0) {
+                out.set(current);
+                return EconomyStatus.INSUFFICIENT_FUNDS;
+            }
+            newBalance = BigDecimal.valueOf(newMinor, decimals);
+        } else {
+            newBalance = balance.add(BigDecimal.valueOf(minorUnits, decimals));
+            if (newBalance.signum() < 0) {
+                out.set(current);
+                return EconomyStatus.INSUFFICIENT_FUNDS;
+            }
+            newMinor = Long.MIN_VALUE;
+        }
+
+        events.balanceChanged(playerId, currency, balance, newBalance);
+        model.setCurrency(currency, newBalance);
+        out.set(newMinor != Long.MIN_VALUE ? remember(newBalance, decimals, newMinor) : toMinor(newBalance, decimals));
+        return EconomyStatus.SUCCESS;
+    }
+
+    private int notOnline() {
+        return currencyManager.isLoading(playerUuid) ? EconomyStatus.ACCOUNT_LOADING : EconomyStatus.PLAYER_NOT_ONLINE;
+    }
+
+    private static boolean overflows(long a, long b) {
+        long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0;
+    }
+
+    private long remember(BigDecimal balance, int decimals, long minor) {
+        cachedBalance = balance;
+        cachedDecimals = decimals;
+        cachedMinor = minor;
+        cachedExact = true;
+        return minor;
+    }
+
+    /**
+     * Convert a balance to minor units, truncating any finer fraction and saturating at the long range.
+     */
+    private long toMinor(BigDecimal balance, int decimals) {
+        if (balance == cachedBalance && decimals == cachedDecimals) {
+            return cachedMinor;
+        }
+        BigDecimal scaled = balance.setScale(decimals, RoundingMode.DOWN);
+        long minor;
+        boolean exact = scaled.compareTo(balance) == 0;
+        if (scaled.unscaledValue().bitLength() > 63) {
+            minor = scaled.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+            exact = false;
+        } else {
+            minor = scaled.unscaledValue().longValue();
+        }
+        cachedBalance = balance;
+        cachedDecimals = decimals;
+        cachedMinor = minor;
+        cachedExact = exact;
+        return minor;
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.service;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.api.event.PlayerCurrencyChangeEvent;
+import com.reliableplugins.currency.config.PluginConfig;
+import com.hypixel.hytale.event.IEventDispatcher;
+import com.hypixel.hytale.server.core.HytaleServer;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@link PlayerCurrencyChangeEvent}s. No event is built while nothing listens for them.
+ * <p>
+ * In coalescing mode, changes are collected per player and currency and flushed once per tick
+ * as a single event carrying the first old amount and the last new amount, so a mass payout
+ * costs one dispatch per account instead of one per mutation. The server scheduler only
+ * triggers the flush: each coalesced event is dispatched on the world thread of its player (the
+ * default world for offline players), after the balances have changed rather than just before.
+ */
+public class CurrencyEventDispatcher {
+
+    private final HyCurrencyPlugin plugin;
+    private final boolean coalesce;
+    private final Map<ChangeKey, PendingChange> pending = new ConcurrentHashMap<>();
+    // Held while pending changes are drained, so shutdown's last flush waits for a running one
+    private final Object flushLock = new Object();
+
+    private ScheduledFuture<?> flushTask;
+
+    public CurrencyEventDispatcher(@Nonnull HyCurrencyPlugin plugin) {
+        this.plugin = plugin;
+        this.coalesce = plugin.getPluginConfig().getEvents().isCoalesce();
+    }
+
+    public void start() {
+        if (!coalesce) {
+            return;
+        }
+        PluginConfig.EventSettings settings = plugin.getPluginConfig().getEvents();
+        long interval = settings.getFlushIntervalMillis();
+        flushTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(this::flushToWorlds, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        // Worlds may already be stopping, so the last changes are dispatched right here
+        flush();
+    }
+
+    /**
+     * Publish a balance change, or fold it into the change pending for the same player and currency.
+     */
+    public void balanceChanged(@Nonnull UUID playerId, @Nonnull String currency,
+                               @Nonnull BigDecimal oldAmount, @Nonnull BigDecimal newAmount) {
+        IEventDispatcher<PlayerCurrencyChangeEvent, PlayerCurrencyChangeEvent> dispatcher = dispatcher();
+        if (!dispatcher.hasListener()) {
+            return;
+        }
+        if (!coalesce) {
+            dispatcher.dispatch(new PlayerCurrencyChangeEvent(playerId, currency, oldAmount, newAmount));
+            return;
+        }
+        pending.merge(new ChangeKey(playerId, currency), new PendingChange(oldAmount, newAmount),
+                (first, next) -> new PendingChange(first.oldAmount(), next.newAmount()));
+    }
+
+    /**
+     * Dispatch every pending coalesced change on the calling thread.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            dispatchAll(drain());
+        }
+    }
+
+    // Hand each world the pending changes of its players
+    private void flushToWorlds() {
+        Map<World, List<PlayerCurrencyChangeEvent>> byWorld = new HashMap<>();
+        synchronized (flushLock) {
+            for (PlayerCurrencyChangeEvent event : drain()) {
+                byWorld.computeIfAbsent(worldOf(event.getPlayerUuid()), world -> new ArrayList<>()).add(event);
+            }
+        }
+        byWorld.forEach((world, events) -> {
+            if (world == null) {
+                dispatchAll(events);
+                return;
+            }
+            try {
+                world.execute(() -> dispatchAll(events));
+            } catch (RejectedExecutionException e) {
+                // The world is stopping
+                dispatchAll(events);
+            }
+        });
+    }
+
+    private List<PlayerCurrencyChangeEvent> drain() {
+        List<PlayerCurrencyChangeEvent> events = new ArrayList<>();
+        for (ChangeKey key : pending.keySet()) {
+            PendingChange change = pending.remove(key);
+            if (change != null) {
+                events.add(new PlayerCurrencyChangeEvent(key.playerId(), key.currency(), change.oldAmount(), change.newAmount()));
+            }
+        }
+        return events;
+    }
+
+    private void dispatchAll(List<PlayerCurrencyChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        IEventDispatcher<PlayerCurrencyChangeEvent, PlayerCurrencyChangeEvent> dispatcher = dispatcher();
+        for (PlayerCurrencyChangeEvent event : events) {
+            try {
+                dispatcher.dispatch(event);
+            } catch (RuntimeException e) {
+                plugin.getLogger().atWarning().log("Failed to dispatch currency change for " + event.getPlayerUuid() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    @Nullable
+    private static World worldOf(UUID playerId) {
+        Universe universe = Universe.get();
+        PlayerRef player = universe.getPlayer(playerId);
+        UUID worldId = player != null ? player.getWorldUuid() : null;
+        World world = worldId != null ? universe.getWorld(worldId) : null;
+        return world != null ? world : universe.getDefaultWorld();
+    }
+
+    private static IEventDispatcher<PlayerCurrencyChangeEvent, PlayerCurrencyChangeEvent> dispatcher() {
+        return HytaleServer.get().getEventBus().dispatchFor(PlayerCurrencyChangeEvent.class);
+    }
+
+    private record ChangeKey(UUID playerId, String currency) {
+    }
+
+    private record PendingChange(BigDecimal oldAmount, BigDecimal newAmount) {
+    }
+
+}
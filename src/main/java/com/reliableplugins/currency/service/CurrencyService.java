@@ -19,28 +19,48 @@
 package com.reliableplugins.currency.service;
 
 import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.api.BalanceChange;
+import com.reliableplugins.currency.api.BalanceHandle;
+import com.reliableplugins.currency.api.ChangeFeedOverflow;
 import com.reliableplugins.currency.api.Economy;
 import com.reliableplugins.currency.api.EconomyResponse;
-import com.reliableplugins.currency.api.event.PlayerCurrencyChangeEvent;
+import com.reliableplugins.currency.api.LeaderboardCursor;
+import com.reliableplugins.currency.api.LeaderboardEntry;
+import com.reliableplugins.currency.api.LeaderboardPage;
 import com.reliableplugins.currency.config.CurrencyConfig;
+import com.reliableplugins.currency.leaderboard.LeaderboardIndex;
+import com.reliableplugins.currency.leaderboard.LeaderboardSnapshotService;
+import com.reliableplugins.currency.leaderboard.TopK;
 import com.reliableplugins.currency.model.CurrencyManager;
 import com.reliableplugins.currency.model.CurrencyMetadata;
 import com.reliableplugins.currency.model.CurrencyModel;
-import com.hypixel.hytale.server.core.HytaleServer;
+import com.reliableplugins.currency.storage.StorageQueueFullException;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 public class CurrencyService implements Economy {
 
     private final HyCurrencyPlugin plugin;
     private final CurrencyManager currencyManager;
+    private final CurrencyEventDispatcher events;
 
     public CurrencyService(@Nonnull HyCurrencyPlugin plugin, @Nonnull CurrencyManager currencyManager) {
         this.plugin = plugin;
         this.currencyManager = currencyManager;
+        this.events = new CurrencyEventDispatcher(plugin);
+        this.events.start();
+    }
+
+    public void shutdown() {
+        events.shutdown();
     }
 
     @Override
@@ -61,11 +81,21 @@ public class CurrencyService implements Economy {
     public String format(@Nonnull BigDecimal amount, @Nonnull String currency) {
         CurrencyMetadata metadata = plugin.getCurrencyConfig().getCurrency(currency);
         if (metadata != null) {
-            return metadata.formatAmount(amount.toPlainString());
+            return metadata.formatAmount(amount);
         }
         return amount.toPlainString() + " " + currency;
     }
 
+    @Nonnull
+    @Override
+    public StringBuilder format(@Nonnull StringBuilder out, @Nonnull BigDecimal amount, @Nonnull String currency) {
+        CurrencyMetadata metadata = plugin.getCurrencyConfig().getCurrency(currency);
+        if (metadata != null) {
+            return metadata.getFormatter().appendTo(out, amount);
+        }
+        return out.append(amount.toPlainString()).append(' ').append(currency);
+    }
+
     @Nonnull
     @Override
     public CompletableFuture<Boolean> hasAccount(@Nonnull UUID playerId) {
@@ -73,13 +103,21 @@ public class CurrencyService implements Economy {
         if (isPlayerOnline(playerId)) {
             return CompletableFuture.completedFuture(true);
         }
-        return currencyManager.getStorage().loadAsync(playerId.toString()).thenApply(Objects::nonNull);
+        CompletableFuture<Boolean> afterLoad = afterLoad(playerId, () -> hasAccount(playerId));
+        if (afterLoad != null) {
+            return afterLoad;
+        }
+        return currencyManager.loadOfflinePlayer(playerId.toString()).thenApply(Objects::nonNull);
     }
 
     @Nonnull
     @Override
     public CompletableFuture<EconomyResponse> createAccountAsync(@Nonnull UUID playerId, @Nonnull String playerName) {
-        return currencyManager.getStorage().loadAsync(playerId.toString())
+        CompletableFuture<EconomyResponse> afterLoad = afterLoad(playerId, () -> createAccountAsync(playerId, playerName));
+        if (afterLoad != null) {
+            return afterLoad;
+        }
+        return currencyManager.loadOfflinePlayer(playerId.toString())
                 .thenCompose(existing -> {
                     if (existing != null) {
                         // Update player name if it wasn't set before
@@ -95,7 +133,50 @@ public class CurrencyService implements Economy {
                     return currencyManager.getStorage().saveAsync(playerId.toString(), model)
                             .thenApply(v -> EconomyResponse.success(BigDecimal.ZERO, model.getCurrency(getDefaultCurrency())));
                 })
-                .exceptionally(ex -> EconomyResponse.internalError(ex.getMessage()));
+                .exceptionally(CurrencyService::errorResponse);
+    }
+
+    private static EconomyResponse errorResponse(Throwable ex) {
+        Throwable cause = unwrap(ex);
+        if (cause instanceof StorageQueueFullException) {
+            return EconomyResponse.storageBusy(cause.getMessage());
+        }
+        return EconomyResponse.internalError(ex.getMessage());
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    /**
+     * Save an offline account after changing it in memory. If the save is shed before it runs,
+     * {@code undo} reverts the change, so a STORAGE_BUSY response means the balance is as it was
+     * and a retry cannot apply the change twice. The model may be a retained account that a
+     * rejoin picks up again, so leaving the change in place would not be harmless.
+     */
+    private CompletableFuture<Void> saveOrUndo(UUID playerId, CurrencyModel model, Runnable undo) {
+        return currencyManager.getStorage().saveAsync(playerId.toString(), model).whenComplete((v, ex) -> {
+            if (ex != null && unwrap(ex) instanceof RejectedExecutionException) {
+                undo.run();
+            }
+        });
+    }
+
+    private void saveReverted(UUID playerId, CurrencyModel model) {
+        currencyManager.getStorage().saveAsync(playerId.toString(), model).exceptionally(ex -> {
+            plugin.getLogger().atSevere().log("Failed to save reverted transfer for " + playerId + ": " + unwrap(ex).getMessage());
+            return null;
+        });
+    }
+
+    @Nullable
+    private static Throwable shedError(@Nullable Throwable first, @Nullable Throwable second) {
+        for (Throwable ex : new Throwable[]{first, second}) {
+            if (ex != null && unwrap(ex) instanceof RejectedExecutionException) {
+                return unwrap(ex);
+            }
+        }
+        return null;
     }
 
     private CurrencyModel createDefaultModel() {
@@ -121,11 +202,51 @@ public class CurrencyService implements Economy {
         return plugin.getCurrencyDataMap().get(playerId.toString());
     }
 
+    @Nonnull
+    @Override
+    public BalanceHandle getBalanceHandle(@Nonnull UUID playerId, @Nonnull String currency) {
+        return new CurrencyBalanceHandle(plugin, currencyManager, events, playerId, currency);
+    }
+
+    @Override
+    public boolean isAccountLoading(@Nonnull UUID playerId) {
+        return currencyManager.isLoading(playerId.toString());
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<Boolean> whenAccountReady(@Nonnull UUID playerId) {
+        CompletableFuture<CurrencyModel> loading = currencyManager.getLoadingFuture(playerId.toString());
+        if (loading == null) {
+            return CompletableFuture.completedFuture(isPlayerOnline(playerId));
+        }
+        return loading.handle((model, ex) -> ex == null && isPlayerOnline(playerId));
+    }
+
+    private EconomyResponse notOnline(@Nonnull UUID playerId) {
+        return isAccountLoading(playerId) ? EconomyResponse.accountLoading() : EconomyResponse.playerNotOnline();
+    }
+
+    /**
+     * Re-run an async call once the account's in-flight load settles, so it is served from the
+     * cache instead of reading storage a second time.
+     *
+     * @return The re-run call, or null if the account is not loading
+     */
+    @Nullable
+    private <T> CompletableFuture<T> afterLoad(@Nonnull UUID playerId, @Nonnull Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<CurrencyModel> loading = currencyManager.getLoadingFuture(playerId.toString());
+        if (loading == null) {
+            return null;
+        }
+        return loading.handle((model, ex) -> null).thenCompose(v -> call.get());
+    }
+
     @Nonnull
     @Override
     public EconomyResponse getBalance(@Nonnull UUID playerId, @Nonnull String currency) {
         if (!isPlayerOnline(playerId)) {
-            return EconomyResponse.playerNotOnline();
+            return notOnline(playerId);
         }
         if (!currencyExists(currency)) {
             return EconomyResponse.invalidCurrency(currency);
@@ -139,7 +260,7 @@ public class CurrencyService implements Economy {
     @Override
     public EconomyResponse has(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
         if (!isPlayerOnline(playerId)) {
-            return EconomyResponse.playerNotOnline();
+            return notOnline(playerId);
         }
         if (!currencyExists(currency)) {
             return EconomyResponse.invalidCurrency(currency);
@@ -159,7 +280,7 @@ public class CurrencyService implements Economy {
     @Override
     public EconomyResponse withdraw(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
         if (!isPlayerOnline(playerId)) {
-            return EconomyResponse.playerNotOnline();
+            return notOnline(playerId);
         }
         if (!currencyExists(currency)) {
             return EconomyResponse.invalidCurrency(currency);
@@ -174,15 +295,7 @@ public class CurrencyService implements Economy {
         }
         BigDecimal newBalance = balance.subtract(amount);
 
-        HytaleServer.get()
-                .getEventBus()
-                .dispatchFor(PlayerCurrencyChangeEvent.class)
-                .dispatch(new PlayerCurrencyChangeEvent(
-                        playerId,
-                        currency,
-                        balance,
-                        newBalance
-                ));
+        events.balanceChanged(playerId, currency, balance, newBalance);
 
         model.setCurrency(currency, newBalance);
 
@@ -193,7 +306,7 @@ public class CurrencyService implements Economy {
     @Override
     public EconomyResponse deposit(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
         if (!isPlayerOnline(playerId)) {
-            return EconomyResponse.playerNotOnline();
+            return notOnline(playerId);
         }
         if (!currencyExists(currency)) {
             return EconomyResponse.invalidCurrency(currency);
@@ -205,15 +318,7 @@ public class CurrencyService implements Economy {
         BigDecimal balance = model.getCurrency(currency);
         BigDecimal newBalance = balance.add(amount);
 
-        HytaleServer.get()
-                .getEventBus()
-                .dispatchFor(PlayerCurrencyChangeEvent.class)
-                .dispatch(new PlayerCurrencyChangeEvent(
-                        playerId,
-                        currency,
-                        balance,
-                        newBalance
-                ));
+        events.balanceChanged(playerId, currency, balance, newBalance);
 
         model.setCurrency(currency, newBalance);
         return EconomyResponse.success(amount, newBalance);
@@ -223,7 +328,7 @@ public class CurrencyService implements Economy {
     @Override
     public EconomyResponse setBalance(@Nonnull UUID playerId, @Nonnull String currency, @Nonnull BigDecimal amount) {
         if (!isPlayerOnline(playerId)) {
-            return EconomyResponse.playerNotOnline();
+            return notOnline(playerId);
         }
         if (!currencyExists(currency)) {
             return EconomyResponse.invalidCurrency(currency);
@@ -236,15 +341,7 @@ public class CurrencyService implements Economy {
         CurrencyModel model = getOnlinePlayerModel(playerId);
         BigDecimal oldBalance = model.getCurrency(currency);
 
-        HytaleServer.get()
-                .getEventBus()
-                .dispatchFor(PlayerCurrencyChangeEvent.class)
-                .dispatch(new PlayerCurrencyChangeEvent(
-                        playerId,
-                        currency,
-                        oldBalance,
-                        amount
-                ));
+        events.balanceChanged(playerId, currency, oldBalance, amount);
 
         model.setCurrency(currency, amount);
         return EconomyResponse.success(amount, amount);
@@ -254,7 +351,7 @@ public class CurrencyService implements Economy {
     @Override
     public EconomyResponse transfer(@Nonnull UUID fromId, @Nonnull UUID toId, @Nonnull String currency, @Nonnull BigDecimal amount) {
         if (!isPlayerOnline(fromId) || !isPlayerOnline(toId)) {
-            return EconomyResponse.playerNotOnline();
+            return notOnline(isPlayerOnline(fromId) ? toId : fromId);
         }
         if (!currencyExists(currency)) {
             return EconomyResponse.invalidCurrency(currency);
@@ -283,10 +380,14 @@ public class CurrencyService implements Economy {
         if (isPlayerOnline(playerId)) {
             return CompletableFuture.completedFuture(getBalance(playerId, currency));
         }
+        CompletableFuture<EconomyResponse> afterLoad = afterLoad(playerId, () -> getBalanceAsync(playerId, currency));
+        if (afterLoad != null) {
+            return afterLoad;
+        }
         if (!currencyExists(currency)) {
             return CompletableFuture.completedFuture(EconomyResponse.invalidCurrency(currency));
         }
-        return currencyManager.getStorage().loadAsync(playerId.toString())
+        return currencyManager.loadOfflinePlayer(playerId.toString())
                 .thenApply(model -> {
                     if (model == null) {
                         return EconomyResponse.accountNotFound();
@@ -294,7 +395,7 @@ public class CurrencyService implements Economy {
                     BigDecimal balance = model.getCurrency(currency);
                     return EconomyResponse.success(balance, balance);
                 })
-                .exceptionally(ex -> EconomyResponse.internalError(ex.getMessage()));
+                .exceptionally(CurrencyService::errorResponse);
     }
 
     @Nonnull
@@ -303,13 +404,17 @@ public class CurrencyService implements Economy {
         if (isPlayerOnline(playerId)) {
             return CompletableFuture.completedFuture(has(playerId, currency, amount));
         }
+        CompletableFuture<EconomyResponse> afterLoad = afterLoad(playerId, () -> hasAsync(playerId, currency, amount));
+        if (afterLoad != null) {
+            return afterLoad;
+        }
         if (!currencyExists(currency)) {
             return CompletableFuture.completedFuture(EconomyResponse.invalidCurrency(currency));
         }
         if (amount.compareTo(BigDecimal.ZERO) < 0) {
             return CompletableFuture.completedFuture(EconomyResponse.invalidAmount());
         }
-        return currencyManager.getStorage().loadAsync(playerId.toString())
+        return currencyManager.loadOfflinePlayer(playerId.toString())
                 .thenApply(model -> {
                     if (model == null) {
                         return EconomyResponse.accountNotFound();
@@ -320,7 +425,7 @@ public class CurrencyService implements Economy {
                     }
                     return EconomyResponse.insufficientFunds(balance);
                 })
-                .exceptionally(ex -> EconomyResponse.internalError(ex.getMessage()));
+                .exceptionally(CurrencyService::errorResponse);
     }
 
     @Nonnull
@@ -333,13 +438,17 @@ public class CurrencyService implements Economy {
             }
             return CompletableFuture.completedFuture(response);
         }
+        CompletableFuture<EconomyResponse> afterLoad = afterLoad(playerId, () -> withdrawAsync(playerId, currency, amount));
+        if (afterLoad != null) {
+            return afterLoad;
+        }
         if (!currencyExists(currency)) {
             return CompletableFuture.completedFuture(EconomyResponse.invalidCurrency(currency));
         }
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             return CompletableFuture.completedFuture(EconomyResponse.invalidAmount());
         }
-        return currencyManager.getStorage().loadAsync(playerId.toString())
+        return currencyManager.loadOfflinePlayer(playerId.toString())
                 .thenCompose(model -> {
                     if (model == null) {
                         return CompletableFuture.completedFuture(EconomyResponse.accountNotFound());
@@ -350,10 +459,10 @@ public class CurrencyService implements Economy {
                     }
                     BigDecimal newBalance = balance.subtract(amount);
                     model.setCurrency(currency, newBalance);
-                    return currencyManager.getStorage().saveAsync(playerId.toString(), model)
+                    return saveOrUndo(playerId, model, () -> model.addAmount(currency, amount))
                             .thenApply(v -> EconomyResponse.success(amount, newBalance));
                 })
-                .exceptionally(ex -> EconomyResponse.internalError(ex.getMessage()));
+                .exceptionally(CurrencyService::errorResponse);
     }
 
     @Nonnull
@@ -366,13 +475,17 @@ public class CurrencyService implements Economy {
             }
             return CompletableFuture.completedFuture(response);
         }
+        CompletableFuture<EconomyResponse> afterLoad = afterLoad(playerId, () -> depositAsync(playerId, currency, amount));
+        if (afterLoad != null) {
+            return afterLoad;
+        }
         if (!currencyExists(currency)) {
             return CompletableFuture.completedFuture(EconomyResponse.invalidCurrency(currency));
         }
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             return CompletableFuture.completedFuture(EconomyResponse.invalidAmount());
         }
-        return currencyManager.getStorage().loadAsync(playerId.toString())
+        return currencyManager.loadOfflinePlayer(playerId.toString())
                 .thenCompose(model -> {
                     if (model == null) {
                         return CompletableFuture.completedFuture(EconomyResponse.accountNotFound());
@@ -380,10 +493,10 @@ public class CurrencyService implements Economy {
                     BigDecimal balance = model.getCurrency(currency);
                     BigDecimal newBalance = balance.add(amount);
                     model.setCurrency(currency, newBalance);
-                    return currencyManager.getStorage().saveAsync(playerId.toString(), model)
+                    return saveOrUndo(playerId, model, () -> model.addAmount(currency, amount.negate()))
                             .thenApply(v -> EconomyResponse.success(amount, newBalance));
                 })
-                .exceptionally(ex -> EconomyResponse.internalError(ex.getMessage()));
+                .exceptionally(CurrencyService::errorResponse);
     }
 
     @Nonnull
@@ -396,22 +509,36 @@ public class CurrencyService implements Economy {
             }
             return CompletableFuture.completedFuture(response);
         }
+        CompletableFuture<EconomyResponse> afterLoad = afterLoad(playerId, () -> setBalanceAsync(playerId, currency, amount));
+        if (afterLoad != null) {
+            return afterLoad;
+        }
         if (!currencyExists(currency)) {
             return CompletableFuture.completedFuture(EconomyResponse.invalidCurrency(currency));
         }
         if (amount.compareTo(BigDecimal.ZERO) < 0) {
             return CompletableFuture.completedFuture(EconomyResponse.invalidAmount());
         }
-        return currencyManager.getStorage().loadAsync(playerId.toString())
+        return currencyManager.loadOfflinePlayer(playerId.toString())
                 .thenCompose(model -> {
                     if (model == null) {
                         return CompletableFuture.completedFuture(EconomyResponse.accountNotFound());
                     }
+                    boolean existed = model.hasCurrency(currency);
+                    BigDecimal previous = model.getCurrency(currency);
                     model.setCurrency(currency, amount);
-                    return currencyManager.getStorage().saveAsync(playerId.toString(), model)
-                            .thenApply(v -> EconomyResponse.success(amount, amount));
+                    return saveOrUndo(playerId, model, () -> {
+                        // Only if nothing has set it since
+                        if (model.getCurrency(currency).compareTo(amount) == 0) {
+                            if (existed) {
+                                model.setCurrency(currency, previous);
+                            } else {
+                                model.removeCurrency(currency);
+                            }
+                        }
+                    }).thenApply(v -> EconomyResponse.success(amount, amount));
                 })
-                .exceptionally(ex -> EconomyResponse.internalError(ex.getMessage()));
+                .exceptionally(CurrencyService::errorResponse);
     }
 
     @Nonnull
@@ -426,6 +553,11 @@ public class CurrencyService implements Economy {
             }
             return CompletableFuture.completedFuture(response);
         }
+        CompletableFuture<EconomyResponse> afterLoad = afterLoad(currencyManager.isLoading(fromId.toString()) ? fromId : toId,
+                () -> transferAsync(fromId, toId, currency, amount));
+        if (afterLoad != null) {
+            return afterLoad;
+        }
         if (!currencyExists(currency)) {
             return CompletableFuture.completedFuture(EconomyResponse.invalidCurrency(currency));
         }
@@ -436,10 +568,10 @@ public class CurrencyService implements Economy {
         // Load both models
         CompletableFuture<CurrencyModel> fromFuture = isPlayerOnline(fromId)
                 ? CompletableFuture.completedFuture(getOnlinePlayerModel(fromId))
-                : currencyManager.getStorage().loadAsync(fromId.toString());
+                : currencyManager.loadOfflinePlayer(fromId.toString());
         CompletableFuture<CurrencyModel> toFuture = isPlayerOnline(toId)
                 ? CompletableFuture.completedFuture(getOnlinePlayerModel(toId))
-                : currencyManager.getStorage().loadAsync(toId.toString());
+                : currencyManager.loadOfflinePlayer(toId.toString());
 
         return fromFuture.thenCombine(toFuture, (fromModel, toModel) -> new CurrencyModel[]{fromModel, toModel})
                 .thenCompose(models -> {
@@ -466,38 +598,60 @@ public class CurrencyService implements Economy {
                             ? CompletableFuture.completedFuture(null)
                             : currencyManager.getStorage().saveAsync(toId.toString(), toModel);
 
-                    return saveFrom.thenCombine(saveTo, (v1, v2) ->
-                            EconomyResponse.success(amount, fromModel.getCurrency(currency)));
+                    return saveFrom.handle((v, ex) -> ex).thenCombine(saveTo.handle((v, ex) -> ex), (fromError, toError) -> {
+                        Throwable shed = shedError(fromError, toError);
+                        if (shed != null) {
+                            // Undo both sides, and write back the side whose save already went through
+                            fromModel.addAmount(currency, amount);
+                            toModel.addAmount(currency, amount.negate());
+                            if (fromError == null && !isPlayerOnline(fromId)) {
+                                saveReverted(fromId, fromModel);
+                            }
+                            if (toError == null && !isPlayerOnline(toId)) {
+                                saveReverted(toId, toModel);
+                            }
+                            throw new CompletionException(shed);
+                        }
+                        Throwable error = fromError != null ? fromError : toError;
+                        if (error != null) {
+                            throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                        }
+                        return EconomyResponse.success(amount, fromModel.getCurrency(currency));
+                    });
                 })
-                .exceptionally(ex -> EconomyResponse.internalError(ex.getMessage()));
+                .exceptionally(CurrencyService::errorResponse);
     }
 
     @Override
     @Nonnull
-    public Map<UUID, BigDecimal> getTopBalances(@Nonnull String currency) {
-        if (!currencyExists(currency)) {
+    public Map<UUID, BigDecimal> getTopBalances(@Nonnull String currency, int limit) {
+        if (!currencyExists(currency) || limit <= 0) {
             return Map.of();
         }
 
-        Map<UUID, BigDecimal> result = new HashMap<>();
-
-        for (Map.Entry<String, CurrencyModel> entry : plugin.getCurrencyDataMap().entrySet()) {
-            BigDecimal amount = entry.getValue().getCurrency(currency);
-            if (amount.compareTo(BigDecimal.ZERO) > 0) {
+        LeaderboardIndex index = currencyManager.getLeaderboardManager().getIndex(currency);
+        List<LeaderboardEntry> top;
+        if (index != null) {
+            top = index.getEntries(0, limit);
+        } else {
+            top = TopK.select(new ArrayList<>(plugin.getCurrencyDataMap().entrySet()), entry -> {
+                BigDecimal amount = entry.getValue().getCurrency(currency);
+                if (amount.signum() <= 0) {
+                    return null;
+                }
                 try {
-                    result.put(UUID.fromString(entry.getKey()), amount);
-                } catch (IllegalArgumentException ignored) {}
-            }
+                    return new LeaderboardEntry(UUID.fromString(entry.getKey()), amount);
+                } catch (IllegalArgumentException ignored) {
+                    return null;
+                }
+            }, limit, LeaderboardIndex.ENTRY_ORDER);
         }
 
-        return result.entrySet()
-                .stream()
-                .sorted(Map.Entry.<UUID, BigDecimal>comparingByValue().reversed())
-                .collect(
-                        LinkedHashMap::new,
-                        (m, e) -> m.put(e.getKey(), e.getValue()),
-                        LinkedHashMap::putAll
-                );
+        Map<UUID, BigDecimal> ranked = new LinkedHashMap<>();
+        for (LeaderboardEntry entry : top) {
+            ranked.put(entry.playerId(), entry.amount());
+        }
+        return ranked;
     }
 
     @Nonnull
@@ -506,8 +660,101 @@ public class CurrencyService implements Economy {
         if (!currencyExists(currency)) {
             return CompletableFuture.completedFuture(Map.of());
         }
+        LeaderboardSnapshotService snapshots = currencyManager.getLeaderboardSnapshots();
+        if (currencyManager.getLeaderboardManager().isIndexed(currency) && limit <= snapshots.getCapacity()) {
+            return snapshots.getSnapshotAsync(currency).thenApply(snapshot -> {
+                Map<String, BigDecimal> result = new LinkedHashMap<>();
+                for (LeaderboardEntry entry : snapshot.getPage(0, limit)) {
+                    result.put(entry.playerId().toString(), entry.amount());
+                }
+                return result;
+            });
+        }
         return currencyManager.getStorage().getTopBalances(currency, limit);
     }
 
-}
+    @Override
+    public int getRank(@Nonnull UUID playerId, @Nonnull String currency) {
+        LeaderboardIndex index = currencyManager.getLeaderboardManager().getIndex(currency);
+        return index != null ? index.getRank(playerId) : -1;
+    }
+
+    @Nonnull
+    @Override
+    public List<LeaderboardEntry> getLeaderboardPage(@Nonnull String currency, int offset, int limit) {
+        LeaderboardIndex index = currencyManager.getLeaderboardManager().getIndex(currency);
+        return index != null ? index.getEntries(offset, limit) : List.of();
+    }
+
+    @Nonnull
+    @Override
+    public List<LeaderboardEntry> getAccountsInRange(@Nonnull String currency, @Nonnull BigDecimal min,
+                                                     @Nonnull BigDecimal max, int limit) {
+        LeaderboardIndex index = currencyManager.getLeaderboardManager().getIndex(currency);
+        if (index == null || min.compareTo(max) > 0) {
+            return List.of();
+        }
+        return index.getEntriesBetween(min, max, limit);
+    }
 
+    @Nonnull
+    @Override
+    public CompletableFuture<Integer> getRankAsync(@Nonnull UUID playerId, @Nonnull String currency) {
+        if (!currencyManager.getLeaderboardManager().isIndexed(currency)) {
+            return CompletableFuture.completedFuture(-1);
+        }
+        // Rank online players by their live balance rather than their last save
+        CurrencyModel model = getOnlinePlayerModel(playerId);
+        BigDecimal balance = model != null ? model.getCurrency(currency) : null;
+        if (balance != null && balance.signum() <= 0) {
+            return CompletableFuture.completedFuture(-1);
+        }
+        return currencyManager.getStorage().getRank(currency, playerId.toString(), balance)
+                .exceptionally(ex -> -1);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getLeaderboardPageAsync(@Nonnull String currency, int offset, int limit) {
+        if (!currencyManager.getLeaderboardManager().isIndexed(currency) || offset < 0 || limit <= 0) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        LeaderboardSnapshotService snapshots = currencyManager.getLeaderboardSnapshots();
+        if ((long) offset + limit <= snapshots.getCapacity()) {
+            return snapshots.getSnapshotAsync(currency)
+                    .thenApply(snapshot -> snapshot.getPage(offset, limit))
+                    .exceptionally(ex -> List.of());
+        }
+        return currencyManager.getStorage().getLeaderboardPage(currency, offset, limit)
+                .exceptionally(ex -> List.of());
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<LeaderboardPage> getLeaderboardPageAsync(@Nonnull String currency, @Nullable LeaderboardCursor after, int limit) {
+        if (!currencyManager.getLeaderboardManager().isIndexed(currency) || limit <= 0) {
+            return CompletableFuture.completedFuture(LeaderboardPage.EMPTY);
+        }
+        return currencyManager.getLeaderboardSnapshots().getPageAfter(currency, after, limit)
+                .exceptionally(ex -> LeaderboardPage.EMPTY);
+    }
+
+    @Nonnull
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getAccountsInRangeAsync(@Nonnull String currency, @Nonnull BigDecimal min,
+                                                                             @Nonnull BigDecimal max, int limit) {
+        if (!currencyManager.getLeaderboardManager().isIndexed(currency) || min.compareTo(max) > 0 || limit <= 0) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return currencyManager.getStorage().getBalancesInRange(currency, min, max, limit)
+                .exceptionally(ex -> List.of());
+    }
+
+    @Nonnull
+    @Override
+    public Flow.Publisher<BalanceChange> getBalanceChanges(@Nullable String currency, @Nullable UUID playerId,
+                                                           int bufferSize, @Nonnull ChangeFeedOverflow overflow) {
+        return currencyManager.getChangeFeed().publisher(currency, playerId, bufferSize, overflow);
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.storage;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of tasks a storage lane holds. Without a cap a stalled database lets
+ * async calls pile up in memory and complete minutes late; with one, work past the
+ * capacity is handled by the lane's {@link StorageOverflowPolicy} straight away.
+ */
+public class BoundedStorageExecutor extends AbstractExecutorService {
+
+    private static final long REJECTION_LOG_INTERVAL_MILLIS = 30_000;
+
+    private final HyCurrencyPlugin plugin;
+    private final StorageLane lane;
+    private final ExecutorService delegate;
+    private final int capacity;
+    private final StorageOverflowPolicy policy;
+    private final Semaphore slots;
+    // key -> task that has not started yet, so later work for the same key can join it
+    private final Map<String, CompletableFuture<?>> unstarted = new ConcurrentHashMap<>();
+    // key -> newest state handed to write() that no write task has picked up yet
+    private final Map<String, Object> latestStates = new ConcurrentHashMap<>();
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final AtomicLong lastRejectionLog = new AtomicLong();
+
+    public BoundedStorageExecutor(@Nonnull HyCurrencyPlugin plugin, @Nonnull StorageLane lane, @Nonnull ExecutorService delegate,
+                                  int capacity, @Nonnull StorageOverflowPolicy policy) {
+        this.plugin = plugin;
+        this.lane = lane;
+        this.delegate = delegate;
+        this.capacity = Math.max(1, capacity);
+        this.policy = policy;
+        this.slots = new Semaphore(this.capacity);
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+        if (!slots.tryAcquire()) {
+            if (policy == StorageOverflowPolicy.CALLER_RUNS) {
+                callerRuns.increment();
+                command.run();
+                return;
+            }
+            throw reject();
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Run a task on this lane. A shed task fails the returned future with
+     * {@link StorageQueueFullException} rather than throwing.
+     *
+     * @param key Identifies the account the task works on, for coalescing; null if it cannot be coalesced
+     */
+    @Nonnull
+    public <T> CompletableFuture<T> supply(@Nullable String key, @Nonnull Supplier<T> task) {
+        if (key == null || policy != StorageOverflowPolicy.COALESCE) {
+            try {
+                return CompletableFuture.supplyAsync(task, this);
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        if (!slots.tryAcquire()) {
+            @SuppressWarnings("unchecked") // a key always names the same kind of task
+            CompletableFuture<T> pending = (CompletableFuture<T>) unstarted.get(key);
+            if (pending != null) {
+                coalesced.increment();
+                return pending.copy();
+            }
+            return CompletableFuture.failedFuture(reject());
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        unstarted.put(key, future);
+        try {
+            delegate.execute(() -> {
+                // Once started, the task may already have read the state a later caller changes
+                unstarted.remove(key, future);
+                try {
+                    future.complete(task.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            unstarted.remove(key, future);
+            slots.release();
+            future.completeExceptionally(e);
+        }
+        return future.copy();
+    }
+
+    @Nonnull
+    public CompletableFuture<Void> run(@Nullable String key, @Nonnull Runnable task) {
+        return supply(key, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Write the newest state for a key on this lane. A write queued for the key but not yet started
+     * picks up any state handed over after it, so it always writes the latest one. If the write is
+     * shed, its state is dropped again instead of waiting for a write that never comes.
+     *
+     * @param key    Identifies what the state belongs to, e.g. the account
+     * @param writer Writes a state; runs on the lane
+     */
+    @Nonnull
+    public <S> CompletableFuture<Void> write(@Nonnull String key, @Nonnull S state, @Nonnull Consumer<? super S> writer) {
+        latestStates.put(key, state);
+        CompletableFuture<Void> future = run(key, () -> {
+            @SuppressWarnings("unchecked") // a key always names the same kind of state
+            S latest = (S) latestStates.remove(key);
+            writer.accept(latest != null ? latest : state);
+        });
+        // Shed before it ran; a newer state put since belongs to a write of its own
+        if (future.isCompletedExceptionally()) {
+            latestStates.remove(key, state);
+        }
+        return future;
+    }
+
+    private StorageQueueFullException reject() {
+        rejected.increment();
+        long now = System.currentTimeMillis();
+        long last = lastRejectionLog.get();
+        if (now - last >= REJECTION_LOG_INTERVAL_MILLIS && lastRejectionLog.compareAndSet(last, now)) {
+            plugin.getLogger().atWarning().log("Storage " + lane.name().toLowerCase(Locale.ROOT) + " queue is full (" + capacity
+                    + " tasks), shedding work; " + rejected.sum() + " tasks rejected so far");
+        }
+        return new StorageQueueFullException(lane, capacity);
+    }
+
+    public StorageLane getLane() {
+        return lane;
+    }
+
+    public StorageOverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of tasks queued or running
+     */
+    public int getQueueDepth() {
+        return capacity - slots.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getCallerRunsCount() {
+        return callerRuns.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+}
@@ -18,9 +18,13 @@
 
 package com.reliableplugins.currency.storage;
 
+import com.reliableplugins.currency.api.LeaderboardCursor;
+import com.reliableplugins.currency.api.LeaderboardEntry;
+import com.reliableplugins.currency.config.CurrencyConfig;
 import com.reliableplugins.currency.model.CurrencyModel;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -60,6 +64,14 @@ public interface CurrencyStorage {
      */
     void addCurrency(String currencyId);
 
+    /**
+     * Bring the storage schema in line with a currency configuration before it goes live,
+     * e.g. on reload. Runs on a storage thread; throwing keeps the previous configuration.
+     */
+    default void prepareCurrencies(CurrencyConfig config) {
+        config.getCurrencies().keySet().forEach(this::addCurrency);
+    }
+
     /**
      * Remove a currency from the storage schema
      *
@@ -77,8 +89,81 @@ public interface CurrencyStorage {
      *
      * @param currencyId the currency to get top players for
      * @param limit      maximum number of results
-     * @return A map of player names to amounts, ordered by amount (descending)
+     * @return A map of player UUIDs (as strings) to amounts, ordered by amount (descending)
      */
     CompletableFuture<Map<String, BigDecimal>> getTopBalances(String currencyId, int limit);
 
+    /**
+     * Get a player's rank for a specific currency
+     *
+     * @param currencyId the currency to rank by
+     * @param playerUuid the player to rank
+     * @param balance    the player's live balance, or null to use their stored balance
+     * @return A future containing the 1-based rank, or -1 if the player is not ranked
+     */
+    CompletableFuture<Integer> getRank(String currencyId, String playerUuid, BigDecimal balance);
+
+    /**
+     * Get a page of players for a specific currency
+     *
+     * @param currencyId the currency to get players for
+     * @param offset     0-based position of the first entry
+     * @param limit      maximum number of results
+     * @return A list of entries, ordered by amount (descending)
+     */
+    CompletableFuture<List<LeaderboardEntry>> getLeaderboardPage(String currencyId, int offset, int limit);
+
+    /**
+     * Get the players that follow a cursor for a specific currency (keyset pagination)
+     *
+     * @param currencyId the currency to get players for
+     * @param after      the last row already read
+     * @param limit      maximum number of results
+     * @return A list of entries, ordered by amount (descending)
+     */
+    CompletableFuture<List<LeaderboardEntry>> getLeaderboardPageAfter(String currencyId, LeaderboardCursor after, int limit);
+
+    /**
+     * Get players whose balance for a specific currency lies within a range
+     *
+     * @param currencyId the currency to get players for
+     * @param min        minimum balance (inclusive)
+     * @param max        maximum balance (inclusive)
+     * @param limit      maximum number of results
+     * @return A list of entries, ordered by amount (descending)
+     */
+    CompletableFuture<List<LeaderboardEntry>> getBalancesInRange(String currencyId, BigDecimal min, BigDecimal max, int limit);
+
+    /**
+     * Load persisted player display names
+     *
+     * @param limit maximum number of names to load, the most recently seen ones
+     * @return A map of player UUID to display name, least recently seen first
+     */
+    CompletableFuture<Map<String, String>> loadPlayerNames(int limit);
+
+    /**
+     * Persist player display names, adding them to the names already stored
+     *
+     * @param names a map of player UUID to display name, least recently seen first
+     * @return Whether the names were written
+     */
+    boolean savePlayerNames(Map<String, String> names);
+
+    /**
+     * Get the number of storage operations worth running at once, e.g. the connection pool size
+     *
+     * @return The maximum useful concurrency
+     */
+    int getMaxConcurrency();
+
+    /**
+     * Describe the connection pool for monitoring
+     *
+     * @return A one-line summary, or null if the storage has no connection pool
+     */
+    default String getPoolStats() {
+        return null;
+    }
+
 }
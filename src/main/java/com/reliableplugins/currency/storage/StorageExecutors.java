@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.storage;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.config.PluginConfig;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * One executor per {@link StorageLane}. The storage's connection budget is split between
+ * the lanes up front, so interactive reads always have connections of their own no matter
+ * how many writes or leaderboard scans are queued. A lane left without threads of its own
+ * queues onto the threads of the lane before it, so the lanes never run more threads than
+ * the budget.
+ */
+public class StorageExecutors {
+
+    private static final StorageLane[] SHUTDOWN_ORDER = {StorageLane.INTERACTIVE, StorageLane.BACKGROUND, StorageLane.WRITE};
+
+    private final HyCurrencyPlugin plugin;
+    private final Map<StorageLane, BoundedStorageExecutor> executors = new EnumMap<>(StorageLane.class);
+    private final Map<StorageLane, Integer> budgets = new EnumMap<>(StorageLane.class);
+    // Lanes running on another lane's threads; they are drained when that lane shuts down
+    private final Set<StorageLane> sharing = EnumSet.noneOf(StorageLane.class);
+
+    public StorageExecutors(@Nonnull HyCurrencyPlugin plugin, @Nonnull CurrencyStorage storage) {
+        this.plugin = plugin;
+        PluginConfig config = plugin.getPluginConfig();
+        boolean virtual = config.isVirtualThreads();
+        // Platform threads beyond the connection count would only wait on the pool, so never run more than it holds
+        PluginConfig.StorageQueueSettings queue = config.getStorageQueue();
+        int total = virtual ? storage.getMaxConcurrency() : Math.min(config.getStorageThreads(), storage.getMaxConcurrency());
+
+        StringBuilder summary = new StringBuilder();
+        ExecutorService previous = null;
+        StorageLane previousLane = null;
+        for (StorageLane lane : StorageLane.values()) {
+            int budget = lane.budget(total);
+            String prefix = "HyCurrency-Storage-" + lane.name().toLowerCase(Locale.ROOT) + "-";
+            budgets.put(lane, budget);
+            ExecutorService executor;
+            if (budget > 0) {
+                executor = virtual ? new VirtualThreadStorageExecutor(budget, prefix) : newFixedPool(budget, prefix);
+                previous = executor;
+                previousLane = lane;
+            } else {
+                // The first lane always has a thread, so there is a lane before this one to share
+                executor = previous;
+                sharing.add(lane);
+            }
+            executors.put(lane, new BoundedStorageExecutor(plugin, lane, executor, queue.getCapacity(), queue.getOverflowPolicy()));
+            if (!summary.isEmpty()) {
+                summary.append(", ");
+            }
+            summary.append(lane.name().toLowerCase(Locale.ROOT)).append('=').append(budget);
+            if (budget == 0) {
+                summary.append(" (on ").append(previousLane.name().toLowerCase(Locale.ROOT)).append(')');
+            }
+        }
+        plugin.getLogger().atInfo().log("Storage lanes on " + (virtual ? "virtual" : "platform") + " threads (" + summary + "), "
+                + queue.getCapacity() + " queued tasks each, overflow policy " + queue.getOverflowPolicy().name().toLowerCase(Locale.ROOT));
+    }
+
+    @Nonnull
+    public BoundedStorageExecutor get(@Nonnull StorageLane lane) {
+        return executors.get(lane);
+    }
+
+    /**
+     * Run a task on a lane; see {@link BoundedStorageExecutor#supply(String, Supplier)}.
+     */
+    @Nonnull
+    public <T> CompletableFuture<T> supplyAsync(@Nonnull StorageLane lane, @Nullable String key, @Nonnull Supplier<T> task) {
+        return executors.get(lane).supply(key, task);
+    }
+
+    @Nonnull
+    public CompletableFuture<Void> runAsync(@Nonnull StorageLane lane, @Nullable String key, @Nonnull Runnable task) {
+        return executors.get(lane).run(key, task);
+    }
+
+    /**
+     * Write the newest state for a key on a lane; see {@link BoundedStorageExecutor#write(String, Object, Consumer)}.
+     */
+    @Nonnull
+    public <S> CompletableFuture<Void> writeAsync(@Nonnull StorageLane lane, @Nonnull String key, @Nonnull S state,
+                                                  @Nonnull Consumer<? super S> writer) {
+        return executors.get(lane).write(key, state, writer);
+    }
+
+    /**
+     * @return The number of tasks queued or running across all lanes
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (BoundedStorageExecutor executor : executors.values()) {
+            depth += executor.getQueueDepth();
+        }
+        return depth;
+    }
+
+    /**
+     * @return The number of tasks shed across all lanes since startup
+     */
+    public long getRejectedCount() {
+        long count = 0;
+        for (BoundedStorageExecutor executor : executors.values()) {
+            count += executor.getRejectedCount();
+        }
+        return count;
+    }
+
+    /**
+     * @return The number of threads of the lane's own, zero if it runs on the threads of another lane
+     */
+    public int getBudget(@Nonnull StorageLane lane) {
+        return budgets.get(lane);
+    }
+
+    /**
+     * Stop accepting work and wait for queued tasks, writes last so saves issued by the others still run.
+     */
+    public void shutdown() {
+        for (StorageLane lane : SHUTDOWN_ORDER) {
+            if (sharing.contains(lane)) continue;
+            ExecutorService executor = executors.get(lane);
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                    if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                        plugin.getLogger().atSevere().log("Storage lane " + lane.name().toLowerCase(Locale.ROOT) + " did not stop, abandoning its threads");
+                    }
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static ExecutorService newFixedPool(int threads, String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            // Like the plugin's other threads, a lane that will not stop must not keep the server from exiting
+            Thread thread = new Thread(runnable, prefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+}
@@ -76,7 +76,7 @@ public class StorageFactory {
                     dbSettings.getUsername(),
                     dbSettings.getPassword()
             );
-            case SQLITE -> new SQLiteStorage(plugin, plugin.getDataDirectory());
+            case SQLITE -> new SQLiteStorage(plugin, plugin.getDataDirectory().resolve("currency.db"));
             case YAML -> {
                 plugin.getLogger().atWarning().log("YAML storage not yet implemented, using JSON");
                 yield createJsonStorage();
@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.storage;
+
+/**
+ * The class of work a storage task belongs to. Every lane runs on its own executor with
+ * its own share of the storage's connections, so a burst of background work can never
+ * hold the connections a joining player's account load is waiting for. Lanes are declared
+ * in priority order: when there are fewer threads than lanes, the last lanes go without.
+ */
+public enum StorageLane {
+
+    /**
+     * Reads a player is waiting on: account loads on join and name lookups from commands.
+     */
+    INTERACTIVE(0.5),
+    /**
+     * Balance writes.
+     */
+    WRITE(0.3),
+    /**
+     * Leaderboard scans, rank queries and other bulk reads nobody is blocked on.
+     */
+    BACKGROUND(0.2);
+
+    private final double share;
+
+    StorageLane(double share) {
+        this.share = share;
+    }
+
+    /**
+     * @param totalConcurrency The number of storage tasks that may run at once across all lanes
+     * @return The number of tasks this lane may run at once. At least one while there are threads left for
+     * every lane up to this one, zero otherwise; the budgets never add up to more than the total
+     */
+    public int budget(int totalConcurrency) {
+        int share = (int) Math.floor(totalConcurrency * this.share);
+        return ordinal() < totalConcurrency ? Math.max(1, share) : share;
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.storage;
+
+/**
+ * What a storage lane does with new work once its queue is full.
+ */
+public enum StorageOverflowPolicy {
+
+    /**
+     * Fail the task with {@link StorageQueueFullException}.
+     */
+    REJECT,
+    /**
+     * Join a task for the same account that has not started yet, otherwise reject.
+     */
+    COALESCE,
+    /**
+     * Run the task on the submitting thread.
+     */
+    CALLER_RUNS;
+
+    public static StorageOverflowPolicy getPolicy(String name, StorageOverflowPolicy defaultPolicy) {
+        for (StorageOverflowPolicy policy : values()) {
+            // accept "caller-runs" as well as "caller_runs"
+            if (policy.name().equalsIgnoreCase(name) || policy.name().replace('_', '-').equalsIgnoreCase(name)) {
+                return policy;
+            }
+        }
+        return defaultPolicy;
+    }
+
+}
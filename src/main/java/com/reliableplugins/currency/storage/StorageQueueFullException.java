@@ -0,0 +1,35 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.storage;
+
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when a storage task is shed because its lane's queue is full.
+ */
+public class StorageQueueFullException extends RejectedExecutionException {
+
+    private static final long serialVersionUID = 1L;
+
+    public StorageQueueFullException(StorageLane lane, int capacity) {
+        super("Storage " + lane.name().toLowerCase(Locale.ROOT) + " queue is full (" + capacity + " tasks)");
+    }
+
+}
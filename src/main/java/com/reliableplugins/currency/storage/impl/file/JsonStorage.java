@@ -20,21 +20,33 @@ package com.reliableplugins.currency.storage.impl.file;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.api.LeaderboardCursor;
+import com.reliableplugins.currency.api.LeaderboardEntry;
+import com.reliableplugins.currency.leaderboard.LeaderboardIndex;
+import com.reliableplugins.currency.leaderboard.TopK;
 import com.reliableplugins.currency.model.CurrencyModel;
 import com.reliableplugins.currency.storage.CurrencyStorage;
+import com.reliableplugins.currency.storage.StorageLane;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public class JsonStorage implements CurrencyStorage {
 
@@ -42,8 +54,12 @@ public class JsonStorage implements CurrencyStorage {
     private final Path dataFolder;
     private final Gson gson;
     private final Map<String, Map<String, BigDecimal>> dataCache = new ConcurrentHashMap<>();
+    // Periodic and shutdown name saves both rewrite the names file
+    private final Object namesLock = new Object();
 
     private static final Type DATA_TYPE = new TypeToken<Map<String, BigDecimal>>() {}.getType();
+    private static final Type NAMES_TYPE = new TypeToken<LinkedHashMap<String, String>>() {}.getType();
+    private static final String NAMES_FILE_NAME = "playernames.json";
 
     public JsonStorage(HyCurrencyPlugin plugin, Path dataFolder) {
         this.plugin = plugin;
@@ -66,11 +82,7 @@ public class JsonStorage implements CurrencyStorage {
 
     @Override
     public CompletableFuture<CurrencyModel> loadAsync(String playerUuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            CurrencyModel model = loadFromStorage(playerUuid);
-            plugin.getCurrencyDataMap().put(playerUuid, model);
-            return model;
-        }, plugin.getDbExecutor());
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.INTERACTIVE, "load:" + playerUuid, () -> loadFromStorage(playerUuid));
     }
 
     private CurrencyModel loadFromStorage(String playerUuid) {
@@ -96,7 +108,7 @@ public class JsonStorage implements CurrencyStorage {
 
     @Override
     public CompletableFuture<Void> saveAsync(String playerId, CurrencyModel model) {
-        return CompletableFuture.runAsync(() -> save(playerId, model), plugin.getDbExecutor());
+        return plugin.getStorageExecutors().writeAsync(StorageLane.WRITE, "save:" + playerId, model, latest -> save(playerId, latest));
     }
 
     @Override
@@ -158,31 +170,175 @@ public class JsonStorage implements CurrencyStorage {
 
     @Override
     public CompletableFuture<Map<String, BigDecimal>> getTopBalances(String currencyId, int limit) {
-        return CompletableFuture.supplyAsync(() -> {
-            // First, load all player files to ensure cache is complete
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            loadAllPlayerFiles();
+
+            Map<String, BigDecimal> result = new LinkedHashMap<>();
+            for (LeaderboardEntry entry : topEntries(currencyId, entry -> true, limit)) {
+                result.put(entry.playerId().toString(), entry.amount());
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        // Each player is a separate file, so allow a few concurrent reads and writes per core
+        return Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> loadPlayerNames(int limit) {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            // Kept next to the player data folder so player file scans never see it
+            Path namesFile = dataFolder.resolveSibling(NAMES_FILE_NAME);
+            if (!Files.exists(namesFile)) {
+                return Map.<String, String>of();
+            }
             try {
-                Files.list(dataFolder).filter(p -> p.toString().endsWith(".json")).forEach(p -> {
-                    String uuid = p.getFileName().toString().replace(".json", "");
-                    if (!dataCache.containsKey(uuid)) {
-                        loadFromStorage(uuid);
-                    }
-                });
-            } catch (IOException e) {
-                plugin.getLogger().atSevere().log("Failed to list player files: " + e.getMessage());
+                String json;
+                synchronized (namesLock) {
+                    json = Files.readString(namesFile);
+                }
+                Map<String, String> names = gson.fromJson(json, NAMES_TYPE);
+                if (names == null) {
+                    return Map.<String, String>of();
+                }
+                // Stored least recently used first, so keep the tail
+                Map<String, String> recent = new LinkedHashMap<>();
+                names.entrySet().stream().skip(Math.max(0, names.size() - limit))
+                        .forEach(e -> recent.put(e.getKey(), e.getValue()));
+                return recent;
+            } catch (IOException | JsonParseException e) {
+                plugin.getLogger().atSevere().log("Failed to load player names: " + e.getMessage());
+                return Map.<String, String>of();
             }
+        });
+    }
 
-            // Sort and return top balances
-            return dataCache.entrySet().stream()
-                    .filter(e -> e.getValue().containsKey(currencyId))
-                    .sorted((a, b) -> b.getValue().get(currencyId).compareTo(a.getValue().get(currencyId)))
-                    .limit(limit)
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            e -> e.getValue().get(currencyId),
-                            (a, b) -> a,
-                            LinkedHashMap::new
-                    ));
-        }, plugin.getDbExecutor());
+    @Override
+    public boolean savePlayerNames(Map<String, String> names) {
+        Path namesFile = dataFolder.resolveSibling(NAMES_FILE_NAME);
+        synchronized (namesLock) {
+            try {
+                Map<String, String> stored = null;
+                if (Files.exists(namesFile)) {
+                    stored = gson.fromJson(Files.readString(namesFile), NAMES_TYPE);
+                }
+                if (stored == null) {
+                    stored = new LinkedHashMap<>();
+                }
+                // Move updated players to the tail, where the most recently seen names are kept
+                for (Map.Entry<String, String> entry : names.entrySet()) {
+                    stored.remove(entry.getKey());
+                    stored.put(entry.getKey(), entry.getValue());
+                }
+                int excess = stored.size() - plugin.getPluginConfig().getLeaderboard().getNameCacheSize();
+                Iterator<String> oldest = stored.keySet().iterator();
+                for (; excess > 0 && oldest.hasNext(); excess--) {
+                    oldest.next();
+                    oldest.remove();
+                }
+                Files.writeString(namesFile, gson.toJson(stored));
+                return true;
+            } catch (IOException | JsonParseException e) {
+                plugin.getLogger().atSevere().log("Failed to save player names: " + e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Integer> getRank(String currencyId, String playerUuid, BigDecimal balance) {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            loadAllPlayerFiles();
+
+            BigDecimal amount = balance;
+            if (amount == null) {
+                Map<String, BigDecimal> data = dataCache.get(playerUuid);
+                amount = data == null ? null : data.get(currencyId);
+            }
+            if (amount == null || amount.signum() <= 0) {
+                return -1;
+            }
+
+            LeaderboardEntry self;
+            try {
+                self = new LeaderboardEntry(UUID.fromString(playerUuid), amount);
+            } catch (IllegalArgumentException e) {
+                return -1;
+            }
+            return (int) rankedEntries(currencyId)
+                    .filter(entry -> !entry.playerId().equals(self.playerId()))
+                    .filter(entry -> LeaderboardIndex.ENTRY_ORDER.compare(entry, self) < 0)
+                    .count() + 1;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getLeaderboardPage(String currencyId, int offset, int limit) {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            loadAllPlayerFiles();
+            int from = Math.max(0, offset);
+            List<LeaderboardEntry> top = topEntries(currencyId, entry -> true, (int) Math.min(Integer.MAX_VALUE, (long) from + limit));
+            return from >= top.size() ? List.<LeaderboardEntry>of() : top.subList(from, top.size());
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getLeaderboardPageAfter(String currencyId, LeaderboardCursor after, int limit) {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            loadAllPlayerFiles();
+            LeaderboardEntry cursor = new LeaderboardEntry(after.playerId(), after.amount());
+            return topEntries(currencyId, entry -> LeaderboardIndex.ENTRY_ORDER.compare(entry, cursor) > 0, limit);
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getBalancesInRange(String currencyId, BigDecimal min, BigDecimal max, int limit) {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            loadAllPlayerFiles();
+            return topEntries(currencyId, entry -> entry.amount().compareTo(min) >= 0 && entry.amount().compareTo(max) <= 0, limit);
+        });
+    }
+
+    // Every cached player with a positive balance for the currency, unordered
+    private Stream<LeaderboardEntry> rankedEntries(String currencyId) {
+        return dataCache.entrySet().stream()
+                .map(e -> toEntry(e, currencyId))
+                .filter(Objects::nonNull);
+    }
+
+    // The best `limit` cached players matching the filter, without sorting every player
+    private List<LeaderboardEntry> topEntries(String currencyId, Predicate<LeaderboardEntry> filter, int limit) {
+        return TopK.select(new ArrayList<>(dataCache.entrySet()), e -> {
+            LeaderboardEntry entry = toEntry(e, currencyId);
+            return entry != null && filter.test(entry) ? entry : null;
+        }, limit, LeaderboardIndex.ENTRY_ORDER);
+    }
+
+    private static LeaderboardEntry toEntry(Map.Entry<String, Map<String, BigDecimal>> e, String currencyId) {
+        BigDecimal amount = e.getValue().get(currencyId);
+        if (amount == null || amount.signum() <= 0) return null;
+        try {
+            return new LeaderboardEntry(UUID.fromString(e.getKey()), amount);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    // Load every player file not yet cached so scans see all players
+    private void loadAllPlayerFiles() {
+        try (Stream<Path> files = Files.list(dataFolder)) {
+            files.filter(p -> p.toString().endsWith(".json")).forEach(p -> {
+                String uuid = p.getFileName().toString().replace(".json", "");
+                if (!dataCache.containsKey(uuid)) {
+                    loadFromStorage(uuid);
+                }
+            });
+        } catch (IOException e) {
+            plugin.getLogger().atSevere().log("Failed to list player files: " + e.getMessage());
+        }
     }
 
 }
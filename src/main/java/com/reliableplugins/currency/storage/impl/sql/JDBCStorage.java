@@ -19,27 +19,63 @@
 package com.reliableplugins.currency.storage.impl.sql;
 
 import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.api.LeaderboardCursor;
+import com.reliableplugins.currency.api.LeaderboardEntry;
+import com.reliableplugins.currency.config.CurrencyConfig;
+import com.reliableplugins.currency.config.PluginConfig;
+import com.reliableplugins.currency.model.CurrencyMetadata;
 import com.reliableplugins.currency.model.CurrencyModel;
 import com.reliableplugins.currency.storage.CurrencyStorage;
+import com.reliableplugins.currency.storage.StorageLane;
 import com.reliableplugins.currency.storage.sql.ConnectionPool;
 import com.reliableplugins.currency.storage.sql.PreparedStatementBuilder;
+import com.reliableplugins.currency.storage.sql.SchemaSnapshot;
 import com.reliableplugins.currency.storage.sql.SqlStatements;
+import com.reliableplugins.currency.storage.sql.StatementPlan;
 
 import java.math.BigDecimal;
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 public abstract class JDBCStorage implements CurrencyStorage {
 
+    // Bump when the base schema changes and add the step to migrateSchema().
+    // 1: player table and name index; 2: the version table records the active balance layout
+    private static final int SCHEMA_VERSION = 2;
+    private static final String SCHEMA_VERSION_TABLE = "hycurrency_schema_version";
+    private static final String LAYOUT_COLUMNS = "columns";
+    private static final String LAYOUT_NORMALIZED = "normalized";
+    private static final String NAME_INDEX = "idx_player_name";
+    private static final Pattern INVALID_COLUMN_CHARS = Pattern.compile("[^a-z0-9_]");
+    private static final long SAVE_RETRY_BACKOFF_MILLIS = 250;
+
     protected final HyCurrencyPlugin plugin;
     protected ConnectionPool connectionPool;
     protected final String tableName;
+    protected final String balanceTableName;
+    protected final String namesTableName;
+    // Whether balances live in balanceTableName as one row per player and currency
+    protected final boolean normalized;
+    private volatile StatementPlan plan;
+    private SaveQueue saveQueue;
 
     public JDBCStorage(HyCurrencyPlugin plugin) {
         this.plugin = plugin;
         this.tableName = "player_currencies";
+        this.balanceTableName = "player_balances";
+        this.namesTableName = "player_names";
+        this.normalized = plugin.getPluginConfig().getDatabase().isNormalizedSchema();
     }
 
     /**
@@ -82,6 +118,42 @@ public abstract class JDBCStorage implements CurrencyStorage {
      */
     protected abstract String getAddNameColumnTemplate();
 
+    /**
+     * Get the SQL template to create a per-currency leaderboard index.
+     */
+    protected abstract String getCreateBalanceIndexTemplate();
+
+    /**
+     * Get the SQL template to drop an index.
+     */
+    protected abstract String getDropIndexTemplate();
+
+    /**
+     * Get the SQL type for the currency id column of the normalized balance table.
+     */
+    protected abstract String getCurrencyIdColumnType();
+
+    /**
+     * Get the SQL template that copies a currency column into the normalized balance table,
+     * skipping balances the table already holds.
+     */
+    protected abstract String getCopyColumnToBalancesTemplate();
+
+    /**
+     * Get the catalog query that reads a {@link SchemaSnapshot}.
+     */
+    protected abstract String getSchemaSnapshotTemplate();
+
+    /**
+     * Get the database-specific upsert SQL template for the display name table.
+     */
+    protected abstract String getNameUpsertTemplate();
+
+    /**
+     * Get the database-specific upsert SQL template for the normalized balance table.
+     */
+    protected abstract String getBalanceUpsertTemplate();
+
     /**
      * Get the update clause builder function for this database type.
      */
@@ -107,120 +179,300 @@ public abstract class JDBCStorage implements CurrencyStorage {
                 throw new RuntimeException("Failed to create connection pool");
             }
             plugin.getLogger().atInfo().log("Database connection pool initialized");
-            createTableIfNotExists();
-            ensureNameColumnExists();
-            createNameIndex();
-            syncCurrencyColumns();
+            migrateSchema();
+
+            PluginConfig.DatabaseSettings settings = plugin.getPluginConfig().getDatabase();
+            if (settings.isGroupCommit()) {
+                // The queue retries failed batches itself, without holding up the ones behind them;
+                // its batches are written on the write lane, within the lane's connections
+                saveQueue = new SaveQueue(plugin, this::writeChunkOnLane,
+                        settings.getGroupCommitCapacity(), settings.getGroupCommitMaxBatch(),
+                        settings.getGroupCommitMaxDelayMillis(), settings.getGroupCommitTargetMillis(),
+                        1 + settings.getSaveRetries(), SAVE_RETRY_BACKOFF_MILLIS);
+                saveQueue.start();
+            }
         } catch (Exception e) {
             plugin.getLogger().atSevere().log("Failed to initialize database: " + e.getMessage());
             throw new RuntimeException("Failed to initialize database", e);
         }
     }
 
-    protected void createTableIfNotExists() {
-        String sql = SqlStatements.CREATE_TABLE
-                .replace("{table}", tableName)
-                .replace("{pk_type}", getPrimaryKeyType())
-                .replace("{name_type}", getNameColumnType());
+    /**
+     * Bring the schema up to date on a single connection: read the schema version and one
+     * metadata snapshot, then run only the missing DDL in one transaction. A warm start
+     * issues no DDL at all.
+     * <p>
+     * The recorded layout says which tables hold the current balances. When the configured
+     * layout differs, the balances are copied across in the same transaction that records
+     * the new layout, in either direction.
+     */
+    protected void migrateSchema() throws SQLException {
+        try (Connection conn = getConnection()) {
+            SchemaSnapshot schema = SchemaSnapshot.read(conn, getSchemaSnapshotTemplate(), List.of(tableName, balanceTableName, namesTableName, SCHEMA_VERSION_TABLE));
+            boolean hasVersionTable = schema.hasTable(SCHEMA_VERSION_TABLE);
+            boolean hasLayoutColumn = schema.hasColumn(SCHEMA_VERSION_TABLE, "layout");
+            RecordedSchema recorded = hasVersionTable ? readRecordedSchema(conn, hasLayoutColumn) : new RecordedSchema(0, null);
+            int version = recorded.version();
+            if (version > SCHEMA_VERSION) {
+                plugin.getLogger().atWarning().log("Database schema version " + version + " is newer than supported version " + SCHEMA_VERSION);
+            }
+            String layout = normalized ? LAYOUT_NORMALIZED : LAYOUT_COLUMNS;
+            String recordedLayout = recorded.layout();
 
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute(sql);
-        } catch (SQLException e) {
-            plugin.getLogger().atSevere().log("Failed to create table: " + e.getMessage());
+            List<String> ddl = new ArrayList<>();
+            if (version < 1) {
+                planBaseSchema(schema, ddl);
+            }
+            if (!schema.hasTable(namesTableName)) {
+                ddl.add(SqlStatements.CREATE_NAMES_TABLE
+                        .replace("{names}", namesTableName)
+                        .replace("{pk_type}", getPrimaryKeyType())
+                        .replace("{name_type}", getNameColumnType()));
+            }
+            if (normalized) {
+                planBalanceTable(schema, ddl);
+            } else {
+                planCurrencyColumns(schema, ddl, plugin.getCurrencyConfig().getCurrencies());
+            }
+            if (!hasVersionTable) {
+                ddl.add(SqlStatements.CREATE_SCHEMA_VERSION_TABLE.replace("{table}", SCHEMA_VERSION_TABLE));
+            } else if (!hasLayoutColumn) {
+                ddl.add(SqlStatements.ALTER_SCHEMA_VERSION_ADD_LAYOUT.replace("{table}", SCHEMA_VERSION_TABLE));
+            }
+
+            // Keyed off the recorded layout, not off creating the table: MySQL commits DDL
+            // implicitly, so a copy that failed after CREATE TABLE has to run again next start
+            boolean copyColumns = normalized && !LAYOUT_NORMALIZED.equals(recordedLayout);
+            boolean copyBalances = !normalized && LAYOUT_NORMALIZED.equals(recordedLayout);
+            if (copyBalances && !schema.hasTable(balanceTableName)) {
+                throw new SQLException("The database records the normalized layout, but " + balanceTableName + " does not exist");
+            }
+            boolean record = version != SCHEMA_VERSION || !layout.equals(recordedLayout);
+            if (ddl.isEmpty() && !copyColumns && !copyBalances && !record) {
+                plugin.getLogger().atInfo().log("Database schema is up to date (version " + version + ", " + layout + " layout)");
+                return;
+            }
+            if (recordedLayout != null && !layout.equals(recordedLayout)) {
+                plugin.getLogger().atWarning().log("Switching the balance layout from " + recordedLayout + " to " + layout + ", copying every balance across");
+            }
+
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                for (String sql : ddl) {
+                    stmt.execute(sql);
+                }
+                if (copyColumns) {
+                    copyColumnsToBalanceTable(conn, schema);
+                }
+                if (copyBalances) {
+                    copyBalanceTableToColumns(conn);
+                }
+                if (record) {
+                    writeRecordedSchema(conn, SCHEMA_VERSION, layout);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+            plugin.getLogger().atInfo().log("Applied " + ddl.size() + " schema change(s), schema version " + Math.max(version, SCHEMA_VERSION) + ", " + layout + " layout");
         }
     }
 
-    protected void ensureNameColumnExists() {
-        String sql = getAddNameColumnTemplate()
-                .replace("{table}", tableName)
-                .replace("{type}", getNameColumnType());
+    // Version 1: the player table with its name column and name index
+    private void planBaseSchema(SchemaSnapshot schema, List<String> ddl) {
+        if (!schema.hasTable(tableName)) {
+            ddl.add(SqlStatements.CREATE_TABLE
+                    .replace("{table}", tableName)
+                    .replace("{pk_type}", getPrimaryKeyType())
+                    .replace("{name_type}", getNameColumnType()));
+        } else if (!schema.hasColumn(tableName, "player_name")) {
+            ddl.add(getAddNameColumnTemplate()
+                    .replace("{table}", tableName)
+                    .replace("{type}", getNameColumnType()));
+        }
+        if (!schema.hasIndex(tableName, NAME_INDEX)) {
+            ddl.add(getCreateNameIndexSql().replace("{table}", tableName));
+        }
+    }
 
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute(sql);
-        } catch (SQLException e) {
-            String msg = e.getMessage() == null ? "" : e.getMessage().toLowerCase();
-            if (!msg.contains("duplicate") && !msg.contains("already exists")) {
-                plugin.getLogger().atFine().log("Column player_name may already exist: " + e.getMessage());
+    // One column per configured currency, plus the leaderboard index of leaderboard currencies
+    private void planCurrencyColumns(SchemaSnapshot schema, List<String> ddl, Map<String, CurrencyMetadata> currencies) {
+        if (currencies == null) return;
+
+        currencies.forEach((currencyId, metadata) -> {
+            String column = sanitizeColumnName(currencyId);
+            if (!schema.hasColumn(tableName, column)) {
+                ddl.add(getAddColumnTemplate()
+                        .replace("{table}", tableName)
+                        .replace("{column}", column)
+                        .replace("{type}", getCurrencyColumnType()));
+            }
+
+            String indexName = balanceIndexName(currencyId);
+            boolean wanted = metadata != null && metadata.isLeaderboard();
+            if (wanted != schema.hasIndex(tableName, indexName)) {
+                String template = wanted ? getCreateBalanceIndexTemplate() : getDropIndexTemplate();
+                ddl.add(template
+                        .replace("{index}", indexName)
+                        .replace("{table}", tableName)
+                        .replace("{column}", column));
             }
+        });
+    }
+
+    // The normalized balance table and its leaderboard index
+    private void planBalanceTable(SchemaSnapshot schema, List<String> ddl) {
+        if (!schema.hasTable(balanceTableName)) {
+            ddl.add(SqlStatements.CREATE_BALANCE_TABLE
+                    .replace("{balances}", balanceTableName)
+                    .replace("{pk_type}", getPrimaryKeyType())
+                    .replace("{id_type}", getCurrencyIdColumnType())
+                    .replace("{type}", getCurrencyColumnType()));
+        }
+        String indexName = "idx_" + balanceTableName + "_rank";
+        if (!schema.hasIndex(balanceTableName, indexName)) {
+            ddl.add(SqlStatements.CREATE_BALANCE_TABLE_INDEX
+                    .replace("{index}", indexName)
+                    .replace("{balances}", balanceTableName));
         }
     }
 
-    protected void createNameIndex() {
-        String sql = getCreateNameIndexSql().replace("{table}", tableName);
+    private void copyColumnsToBalanceTable(Connection conn, SchemaSnapshot schema) throws SQLException {
+        var currencies = plugin.getCurrencyConfig().getCurrencies();
+        if (currencies == null) return;
+
+        String deleteSql = SqlStatements.DELETE_CURRENCY_BALANCES.replace("{balances}", balanceTableName);
+        for (String currencyId : currencies.keySet()) {
+            String column = sanitizeColumnName(currencyId);
+            if (!schema.hasColumn(tableName, column)) continue;
 
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute(sql);
-        } catch (SQLException e) {
-            String msg = e.getMessage() == null ? "" : e.getMessage().toLowerCase();
-            if (!msg.contains("already exists") && !msg.contains("duplicate")) {
-                plugin.getLogger().atFine().log("Name index may already exist: " + e.getMessage());
+            // Rows left from an earlier spell in the normalized layout are older than the column
+            try (PreparedStatement stmt = conn.prepareStatement(deleteSql)) {
+                stmt.setString(1, currencyId);
+                stmt.executeUpdate();
+            }
+            String sql = getCopyColumnToBalancesTemplate()
+                    .replace("{balances}", balanceTableName)
+                    .replace("{table}", tableName)
+                    .replace("{column}", column);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, currencyId);
+                int rows = stmt.executeUpdate();
+                plugin.getLogger().atInfo().log("Migrated " + rows + " " + currencyId + " balances to " + balanceTableName);
             }
         }
     }
 
-    protected void syncCurrencyColumns() {
+    // Back to the column layout: every configured currency's column takes the value of its balance rows
+    private void copyBalanceTableToColumns(Connection conn) throws SQLException {
         var currencies = plugin.getCurrencyConfig().getCurrencies();
         if (currencies == null) return;
-        currencies.keySet().forEach(this::addCurrencyColumn);
-    }
 
-    protected void addCurrencyColumn(String currencyId) {
-        String columnName = sanitizeColumnName(currencyId);
-        String sql = getAddColumnTemplate()
-                .replace("{table}", tableName)
-                .replace("{column}", columnName)
-                .replace("{type}", getCurrencyColumnType());
+        for (String currencyId : currencies.keySet()) {
+            // The column is planned from the same configuration, so it exists by now
+            String sql = SqlStatements.COPY_BALANCES_TO_COLUMN
+                    .replace("{balances}", balanceTableName)
+                    .replace("{table}", tableName)
+                    .replace("{column}", sanitizeColumnName(currencyId));
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, currencyId);
+                int rows = stmt.executeUpdate();
+                plugin.getLogger().atInfo().log("Migrated " + rows + " " + currencyId + " balances back to " + tableName);
+            }
+        }
+    }
 
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute(sql);
-        } catch (SQLException e) {
-            String msg = e.getMessage() == null ? "" : e.getMessage().toLowerCase();
-            if (!msg.contains("duplicate") && !msg.contains("already exists")) {
-                plugin.getLogger().atFine().log("Column " + columnName + " may already exist: " + e.getMessage());
+    private RecordedSchema readRecordedSchema(Connection conn, boolean hasLayoutColumn) throws SQLException {
+        String sql = (hasLayoutColumn ? SqlStatements.SELECT_SCHEMA_VERSION_AND_LAYOUT : SqlStatements.SELECT_SCHEMA_VERSION)
+                .replace("{table}", SCHEMA_VERSION_TABLE);
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            if (!rs.next()) {
+                return new RecordedSchema(0, null);
+            }
+            int version = rs.getInt(1);
+            String layout = hasLayoutColumn ? rs.getString(2) : null;
+            if (layout == null && version > 0) {
+                // Before the layout was recorded, version 2 was only written once balances were normalized
+                layout = version >= 2 ? LAYOUT_NORMALIZED : LAYOUT_COLUMNS;
             }
+            return new RecordedSchema(version, layout);
         }
     }
 
+    private void writeRecordedSchema(Connection conn, int version, String layout) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(SqlStatements.DELETE_SCHEMA_VERSION.replace("{table}", SCHEMA_VERSION_TABLE));
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(SqlStatements.INSERT_SCHEMA_VERSION.replace("{table}", SCHEMA_VERSION_TABLE))) {
+            stmt.setInt(1, version);
+            stmt.setString(2, layout);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * @param layout The layout holding the current balances, null if none has been recorded
+     */
+    private record RecordedSchema(int version, String layout) {
+    }
+
+    protected String balanceIndexName(String currencyId) {
+        return "idx_" + sanitizeColumnName(currencyId) + "_rank";
+    }
+
     protected String sanitizeColumnName(String currencyId) {
-        return "currency_" + currencyId.toLowerCase().replaceAll("[^a-z0-9_]", "_");
+        return "currency_" + INVALID_COLUMN_CHARS.matcher(currencyId.toLowerCase()).replaceAll("_");
     }
 
     @Override
     public CompletableFuture<CurrencyModel> loadAsync(String playerUuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            CurrencyModel model = loadFromStorage(playerUuid);
-            plugin.getCurrencyDataMap().put(playerUuid, model);
-            return model;
-        }, plugin.getDbExecutor());
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.INTERACTIVE, "load:" + playerUuid, () -> loadFromStorage(playerUuid));
     }
 
-    protected CurrencyModel loadFromStorage(String playerUuid) {
-        CurrencyModel model = new CurrencyModel();
+    /**
+     * Get the statement plan for the configured currencies, rebuilding it only when that set changed.
+     */
+    protected StatementPlan currentPlan() {
         var currencies = plugin.getCurrencyConfig().getCurrencies();
-        if (currencies == null || currencies.isEmpty()) return model;
+        Set<String> currencyIds = currencies != null ? currencies.keySet() : Set.of();
+        StatementPlan current = plan;
+        if (current == null || !current.matches(currencyIds)) {
+            current = planBuilder().build(currencyIds);
+            plan = current;
+        }
+        return current;
+    }
 
-        Set<String> currencyIds = currencies.keySet();
-        String columns = buildColumnList(currencyIds);
-        String sql = SqlStatements.SELECT_PLAYER_CURRENCIES
-                .replace("{table}", tableName)
-                .replace("{columns}", columns);
+    private StatementPlan.Builder planBuilder() {
+        return StatementPlan.builder()
+                .tables(tableName, balanceTableName)
+                .normalized(normalized)
+                .upsertTemplate(getUpsertTemplate(), getUpdateClauseBuilder())
+                .balanceUpsertTemplate(getBalanceUpsertTemplate())
+                .columnNames(this::sanitizeColumnName);
+    }
+
+    protected CurrencyModel loadFromStorage(String playerUuid) {
+        CurrencyModel model = new CurrencyModel();
+        StatementPlan plan = currentPlan();
+        List<String> currencyIds = plan.getCurrencyIds();
+        if (currencyIds.isEmpty()) return model;
 
         try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(plan.getSelectPlayerSql())) {
             stmt.setString(1, playerUuid);
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    model.setPlayerName(rs.getString("player_name"));
-                    for (String currencyId : currencyIds) {
-                        BigDecimal amount = rs.getBigDecimal(sanitizeColumnName(currencyId));
-                        if (amount != null) {
-                            model.setCurrency(currencyId, amount);
-                        }
+                if (normalized) {
+                    while (rs.next()) {
+                        readBalanceRow(rs, 1, model, plan);
                     }
+                } else if (rs.next()) {
+                    readCurrencyColumns(rs, 1, model, currencyIds);
                 }
             }
         } catch (SQLException e) {
@@ -229,45 +481,61 @@ public abstract class JDBCStorage implements CurrencyStorage {
         return model;
     }
 
-    private String buildColumnList(Collection<String> currencyIds) {
-        StringJoiner joiner = new StringJoiner(", ");
-        currencyIds.forEach(id -> joiner.add(sanitizeColumnName(id)));
-        return joiner.toString();
+    // Reads player_name followed by one column per planned currency, starting at the given column
+    private void readCurrencyColumns(ResultSet rs, int column, CurrencyModel model, List<String> currencyIds) throws SQLException {
+        model.setPlayerName(rs.getString(column));
+        for (int i = 0; i < currencyIds.size(); i++) {
+            BigDecimal amount = rs.getBigDecimal(column + 1 + i);
+            if (amount != null) {
+                model.setCurrency(currencyIds.get(i), amount);
+            }
+        }
+    }
+
+    // Reads one (player_name, currency_id, amount) row of the normalized layout, starting at the given column
+    private void readBalanceRow(ResultSet rs, int column, CurrencyModel model, StatementPlan plan) throws SQLException {
+        model.setPlayerName(rs.getString(column));
+        String currencyId = rs.getString(column + 1);
+        BigDecimal amount = rs.getBigDecimal(column + 2);
+        if (currencyId != null && amount != null && plan.matchesCurrency(currencyId)) {
+            model.setCurrency(currencyId, amount);
+        }
     }
 
     @Override
     public CompletableFuture<Void> saveAsync(String playerId, CurrencyModel model) {
-        return CompletableFuture.runAsync(() -> save(playerId, model), plugin.getDbExecutor());
+        if (saveQueue != null && !model.getCurrencies().isEmpty()) {
+            CompletableFuture<Void> queued = saveQueue.submit(playerId, model);
+            if (queued != null) {
+                return queued;
+            }
+        }
+        // Group commit disabled, stopped or full: save on its own
+        return plugin.getStorageExecutors().writeAsync(StorageLane.WRITE, "save:" + playerId, model, latest -> save(playerId, latest));
     }
 
-    private String buildUpsertSql(Collection<String> currencyIds) {
-        return PreparedStatementBuilder.upsert(tableName)
-                .withPrimaryKey("player_uuid")
-                .withPlayerName()
-                .withColumns(currencyIds, this::sanitizeColumnName)
-                .withTemplate(getUpsertTemplate())
-                .buildSql(getUpdateClauseBuilder());
+    @Override
+    public int getMaxConcurrency() {
+        return connectionPool != null ? connectionPool.getMaximumPoolSize() : 1;
     }
 
-    private void setUpsertParameters(PreparedStatement stmt, String playerId,
-                                     CurrencyModel model) throws SQLException {
-        stmt.setString(1, playerId);
-        stmt.setString(2, model.getPlayerName());
-        int index = 3;
-        for (BigDecimal amount : model.getCurrencies().values()) {
-            stmt.setBigDecimal(index++, amount);
-        }
+    @Override
+    public String getPoolStats() {
+        return connectionPool != null ? connectionPool.getPoolStats() : null;
+    }
+
+    /**
+     * @return The group-commit queue, or null if group commit is disabled
+     */
+    public SaveQueue getSaveQueue() {
+        return saveQueue;
     }
 
     protected void save(String playerId, CurrencyModel model) {
         if (model.getCurrencies().isEmpty()) return;
 
-        String sql = buildUpsertSql(model.getCurrencies().keySet());
-
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            setUpsertParameters(stmt, playerId, model);
-            stmt.executeUpdate();
+        try {
+            writeChunk(List.of(Map.entry(playerId, model)), currentPlan());
         } catch (SQLException e) {
             plugin.getLogger().atSevere().log("Failed to save player data: " + e.getMessage());
         }
@@ -278,42 +546,212 @@ public abstract class JDBCStorage implements CurrencyStorage {
         saveAll(plugin.getCurrencyDataMap());
     }
 
-    private void saveAll(Map<String, CurrencyModel> allPlayersData) {
-        if (allPlayersData.isEmpty()) return;
+    /**
+     * Save accounts in chunks, each in its own transaction, spread over the write lane's threads.
+     * A failed chunk is retried on its own, so one bad chunk does not lose the whole flush.
+     */
+    private void saveAll(Map<String, CurrencyModel> playersData) {
+        if (playersData.isEmpty()) return;
 
-        Set<String> allCurrencyIds = collectAllCurrencyIds(allPlayersData);
-        if (allCurrencyIds.isEmpty()) return;
+        StatementPlan plan = currentPlan();
+        List<Map.Entry<String, CurrencyModel>> entries = new ArrayList<>(playersData.entrySet());
+        int chunkSize = plugin.getPluginConfig().getDatabase().getSaveChunkSize();
+        List<List<Map.Entry<String, CurrencyModel>>> chunks = new ArrayList<>();
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            chunks.add(entries.subList(from, Math.min(entries.size(), from + chunkSize)));
+        }
 
-        String sql = buildUpsertSql(allCurrencyIds);
-        List<String> currencyOrder = new ArrayList<>(allCurrencyIds);
+        if (chunks.size() == 1) {
+            writeChunkWithRetry(chunks.get(0), plan, 1).join();
+            return;
+        }
 
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (Map.Entry<String, CurrencyModel> entry : allPlayersData.entrySet()) {
-                addBatchEntry(stmt, entry.getKey(), entry.getValue(), currencyOrder);
+        int total = entries.size();
+        AtomicInteger saved = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger reportedQuarter = new AtomicInteger();
+        long start = System.nanoTime();
+
+        // Only as many chunks in flight as the write lane has threads, so the flush stays within its connections
+        Queue<List<Map.Entry<String, CurrencyModel>>> remaining = new ConcurrentLinkedQueue<>(chunks);
+        int parallelism = Math.max(1, Math.min(chunks.size(), plugin.getStorageExecutors().getBudget(StorageLane.WRITE)));
+        BiConsumer<List<Map.Entry<String, CurrencyModel>>, Boolean> progress = (chunk, written) -> {
+            if (!written) {
+                failed.addAndGet(chunk.size());
+                return;
             }
-            stmt.executeBatch();
-        } catch (SQLException e) {
-            plugin.getLogger().atSevere().log("Failed to bulk save player data: " + e.getMessage());
+            int done = saved.addAndGet(chunk.size());
+            int quarter = done * 4 / total;
+            if (quarter < 4 && quarter > reportedQuarter.getAndAccumulate(quarter, Math::max)) {
+                plugin.getLogger().atInfo().log("Saving player data: " + done + "/" + total + " accounts");
+            }
+        };
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = saveChunks(remaining, plan, progress);
+        }
+        CompletableFuture.allOf(workers).join();
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (failed.get() > 0) {
+            plugin.getLogger().atSevere().log("Saved " + saved.get() + "/" + total + " accounts in " + millis + "ms, " + failed.get() + " failed");
+        } else {
+            plugin.getLogger().atInfo().log("Saved " + total + " accounts in " + chunks.size() + " chunks in " + millis + "ms");
         }
     }
 
-    private Set<String> collectAllCurrencyIds(Map<String, CurrencyModel> allPlayersData) {
-        Set<String> ids = new LinkedHashSet<>();
-        allPlayersData.values().forEach(model -> ids.addAll(model.getCurrencies().keySet()));
-        return ids;
+    // Save the queued chunks one after another on the write lane, until none are left
+    private CompletableFuture<Void> saveChunks(Queue<List<Map.Entry<String, CurrencyModel>>> remaining, StatementPlan plan,
+                                               BiConsumer<List<Map.Entry<String, CurrencyModel>>, Boolean> progress) {
+        List<Map.Entry<String, CurrencyModel>> chunk = remaining.poll();
+        if (chunk == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return writeChunkWithRetry(chunk, plan, 1).thenCompose(written -> {
+            progress.accept(chunk, written);
+            return saveChunks(remaining, plan, progress);
+        });
     }
 
-    private void addBatchEntry(PreparedStatement stmt, String playerId,
-                               CurrencyModel model,
-                               List<String> currencyOrder) throws SQLException {
-        stmt.setString(1, playerId);
-        stmt.setString(2, model.getPlayerName());
-        int index = 3;
-        for (String currencyId : currencyOrder) {
-            stmt.setBigDecimal(index++, model.getCurrencies().getOrDefault(currencyId, BigDecimal.ZERO));
+    // A group-commit batch, written on the write lane and waited for by the queue's flusher
+    private void writeChunkOnLane(List<Map.Entry<String, CurrencyModel>> accounts) throws SQLException {
+        StatementPlan plan = currentPlan();
+        try {
+            plugin.getStorageExecutors().runAsync(StorageLane.WRITE, null, () -> {
+                try {
+                    writeChunk(accounts, plan);
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SQLException sql) {
+                throw sql;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Write a chunk on the write lane. A failed attempt is retried after a backoff that
+     * holds no lane thread, so the other chunks keep the lane busy meanwhile.
+     *
+     * @return Whether the chunk was written, possibly after retries
+     */
+    private CompletableFuture<Boolean> writeChunkWithRetry(List<Map.Entry<String, CurrencyModel>> chunk, StatementPlan plan, int attempt) {
+        int attempts = 1 + plugin.getPluginConfig().getDatabase().getSaveRetries();
+        return tryWriteChunk(chunk, plan).thenCompose(error -> {
+            if (error == null) {
+                return CompletableFuture.completedFuture(true);
+            }
+            if (attempt >= attempts) {
+                plugin.getLogger().atSevere().log("Failed to save " + chunk.size() + " accounts after " + attempts + " attempts: " + error.getMessage());
+                return CompletableFuture.completedFuture(false);
+            }
+            plugin.getLogger().atWarning().log("Failed to save " + chunk.size() + " accounts (attempt " + attempt + "/" + attempts + "), retrying: " + error.getMessage());
+            Executor backoff = CompletableFuture.delayedExecutor(SAVE_RETRY_BACKOFF_MILLIS * attempt, TimeUnit.MILLISECONDS);
+            return CompletableFuture.runAsync(() -> { }, backoff)
+                    .thenCompose(ignored -> writeChunkWithRetry(chunk, plan, attempt + 1));
+        });
+    }
+
+    // One attempt on the write lane, completing with its error or null once written
+    private CompletableFuture<SQLException> tryWriteChunk(List<Map.Entry<String, CurrencyModel>> chunk, StatementPlan plan) {
+        Supplier<SQLException> write = () -> {
+            try {
+                writeChunk(chunk, plan);
+                return null;
+            } catch (SQLException e) {
+                return e;
+            }
+        };
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.WRITE, null, write)
+                .exceptionally(t -> {
+                    Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                    if (!(cause instanceof RejectedExecutionException)) {
+                        throw new CompletionException(cause);
+                    }
+                    // The lane is full or stopped: write it here rather than lose the accounts
+                    return write.get();
+                });
+    }
+
+    /**
+     * Write a chunk of accounts in a single transaction on one connection. In the column layout
+     * only the currencies a model holds are written, one batch per distinct set of currencies.
+     */
+    private void writeChunk(List<Map.Entry<String, CurrencyModel>> chunk, StatementPlan plan) throws SQLException {
+        List<String> currencyIds = plan.getCurrencyIds();
+        if (!normalized && currencyIds.isEmpty()) return;
+
+        try (Connection conn = getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                if (normalized) {
+                    writeBalanceRows(conn, chunk, plan);
+                } else {
+                    writeCurrencyColumns(conn, chunk, plan);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void writeCurrencyColumns(Connection conn, List<Map.Entry<String, CurrencyModel>> chunk, StatementPlan plan) throws SQLException {
+        List<String> currencyIds = plan.getCurrencyIds();
+        // Accounts grouped by the planned currencies they hold; almost always a single group.
+        // Balances are copied once, so the set a row was grouped by is exactly the set it binds.
+        Map<BitSet, List<AccountRow>> groups = new LinkedHashMap<>();
+        for (Map.Entry<String, CurrencyModel> entry : chunk) {
+            Map<String, BigDecimal> balances = new HashMap<>(entry.getValue().getCurrencies());
+            groups.computeIfAbsent(plan.presentCurrencies(balances), k -> new ArrayList<>())
+                    .add(new AccountRow(entry.getKey(), entry.getValue().getPlayerName(), balances));
+        }
+
+        for (Map.Entry<BitSet, List<AccountRow>> group : groups.entrySet()) {
+            BitSet present = group.getKey();
+            try (PreparedStatement stmt = conn.prepareStatement(plan.getUpsertPlayerSql(present))) {
+                for (AccountRow row : group.getValue()) {
+                    stmt.setString(1, row.playerId());
+                    stmt.setString(2, row.playerName());
+                    int parameter = 3;
+                    for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                        stmt.setBigDecimal(parameter++, row.balances().get(currencyIds.get(i)));
+                    }
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    private record AccountRow(String playerId, String playerName, Map<String, BigDecimal> balances) {
+    }
+
+    private void writeBalanceRows(Connection conn, List<Map.Entry<String, CurrencyModel>> chunk, StatementPlan plan) throws SQLException {
+        try (PreparedStatement playerStmt = conn.prepareStatement(plan.getUpsertPlayerSql());
+             PreparedStatement balanceStmt = conn.prepareStatement(plan.getUpsertBalanceSql())) {
+            for (Map.Entry<String, CurrencyModel> entry : chunk) {
+                playerStmt.setString(1, entry.getKey());
+                playerStmt.setString(2, entry.getValue().getPlayerName());
+                playerStmt.addBatch();
+                // One row per balance the model holds
+                for (Map.Entry<String, BigDecimal> balance : entry.getValue().getCurrencies().entrySet()) {
+                    balanceStmt.setString(1, entry.getKey());
+                    balanceStmt.setString(2, balance.getKey());
+                    balanceStmt.setBigDecimal(3, balance.getValue());
+                    balanceStmt.addBatch();
+                }
+            }
+            playerStmt.executeBatch();
+            balanceStmt.executeBatch();
         }
-        stmt.addBatch();
     }
 
     /**
@@ -321,48 +759,117 @@ public abstract class JDBCStorage implements CurrencyStorage {
      */
     @Override
     public CompletableFuture<CurrencyModel> loadByNameAsync(String playerName) {
-        return CompletableFuture.supplyAsync(() -> {
-            var currencies = plugin.getCurrencyConfig().getCurrencies();
-            if (currencies == null || currencies.isEmpty()) return null;
-
-            Set<String> currencyIds = currencies.keySet();
-            String columns = buildColumnList(currencyIds);
-            String sql = SqlStatements.SELECT_PLAYER_BY_NAME
-                    .replace("{table}", tableName)
-                    .replace("{columns}", columns);
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.INTERACTIVE, null, () -> {
+            StatementPlan plan = currentPlan();
+            if (plan.getCurrencyIds().isEmpty()) return null;
 
             try (Connection conn = getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                 PreparedStatement stmt = conn.prepareStatement(plan.getSelectPlayerByNameSql())) {
                 stmt.setString(1, playerName.toLowerCase());
                 try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next()) {
+                    if (!normalized) {
+                        if (!rs.next()) return null;
                         CurrencyModel model = new CurrencyModel();
-                        model.setPlayerName(rs.getString("player_name"));
-                        for (String currencyId : currencyIds) {
-                            BigDecimal amount = rs.getBigDecimal(sanitizeColumnName(currencyId));
-                            if (amount != null) {
-                                model.setCurrency(currencyId, amount);
-                            }
-                        }
+                        readCurrencyColumns(rs, 2, model, plan.getCurrencyIds());
                         return model;
                     }
+
+                    CurrencyModel model = null;
+                    String playerUuid = null;
+                    while (rs.next()) {
+                        // Only the first matching player, in case a name was reused
+                        if (playerUuid == null) {
+                            playerUuid = rs.getString(1);
+                            model = new CurrencyModel();
+                        } else if (!playerUuid.equals(rs.getString(1))) {
+                            break;
+                        }
+                        readBalanceRow(rs, 2, model, plan);
+                    }
+                    return model;
                 }
             } catch (SQLException e) {
                 plugin.getLogger().atSevere().log("Failed to load player data by name: " + e.getMessage());
             }
             return null;
-        }, plugin.getDbExecutor());
+        });
     }
 
     @Override
     public void addCurrency(String currencyId) {
-        addCurrencyColumn(currencyId);
+        Map<String, CurrencyMetadata> currency = new HashMap<>();
+        currency.put(currencyId, plugin.getCurrencyConfig().getCurrency(currencyId));
+        try {
+            applyCurrencySchema(currency);
+        } catch (SQLException e) {
+            plugin.getLogger().atSevere().log("Failed to add currency " + currencyId + " to the schema: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Add the columns and leaderboard indexes a reloaded configuration needs, planned
+     * from one metadata snapshot like the startup migration.
+     */
+    @Override
+    public void prepareCurrencies(CurrencyConfig config) {
+        try {
+            applyCurrencySchema(config.getCurrencies());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to update the schema for the reloaded currencies: " + e.getMessage(), e);
+        }
+    }
+
+    // Plan the currency columns and leaderboard indexes from a snapshot and run only the missing DDL
+    private void applyCurrencySchema(Map<String, CurrencyMetadata> currencies) throws SQLException {
+        // The normalized layout needs no schema change for a new currency
+        if (normalized) return;
+
+        try (Connection conn = getConnection()) {
+            SchemaSnapshot schema = SchemaSnapshot.read(conn, getSchemaSnapshotTemplate(), List.of(tableName));
+            List<String> ddl = new ArrayList<>();
+            planCurrencyColumns(schema, ddl, currencies);
+            if (ddl.isEmpty()) return;
+
+            try (Statement stmt = conn.createStatement()) {
+                for (String sql : ddl) {
+                    stmt.execute(sql);
+                }
+            }
+            plugin.getLogger().atInfo().log("Applied " + ddl.size() + " schema change(s) for " + currencies.size() + " currencies");
+        }
     }
 
     @Override
     public void removeCurrency(String currencyId, boolean deleteData) {
         if (!deleteData) return;
 
+        if (normalized) {
+            String sql = SqlStatements.DELETE_CURRENCY_BALANCES.replace("{balances}", balanceTableName);
+            try (Connection conn = getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, currencyId);
+                stmt.executeUpdate();
+            } catch (SQLException e) {
+                plugin.getLogger().atSevere().log("Failed to remove currency balances: " + e.getMessage());
+            }
+            return;
+        }
+
+        // Drop the leaderboard index first; some databases refuse to drop an indexed column
+        String dropIndexSql = getDropIndexTemplate()
+                .replace("{index}", balanceIndexName(currencyId))
+                .replace("{table}", tableName);
+        try (Connection conn = getConnection()) {
+            SchemaSnapshot schema = SchemaSnapshot.read(conn, getSchemaSnapshotTemplate(), List.of(tableName));
+            if (schema.hasIndex(tableName, balanceIndexName(currencyId))) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute(dropIndexSql);
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().atWarning().log("Failed to drop leaderboard index: " + e.getMessage());
+        }
+
         String sql = SqlStatements.ALTER_TABLE_DROP_COLUMN
                 .replace("{table}", tableName)
                 .replace("{column}", sanitizeColumnName(currencyId));
@@ -377,6 +884,9 @@ public abstract class JDBCStorage implements CurrencyStorage {
 
     @Override
     public void unload() {
+        if (saveQueue != null) {
+            saveQueue.shutdown();
+        }
         saveAll();
         if (connectionPool != null) {
             plugin.getLogger().atInfo().log("Closing database connection pool. Stats: " + connectionPool.getPoolStats());
@@ -386,20 +896,20 @@ public abstract class JDBCStorage implements CurrencyStorage {
 
     @Override
     public CompletableFuture<Map<String, BigDecimal>> getTopBalances(String currencyId, int limit) {
-        return CompletableFuture.supplyAsync(() -> {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
             Map<String, BigDecimal> results = new LinkedHashMap<>();
-            String sql = String.format(SqlStatements.SELECT_TOP_BALANCES, currencyId, currencyId);
+            String sql = currentPlan().forCurrency(currencyId).selectTop();
 
-            try (Connection conn = connectionPool.getConnection();
+            try (Connection conn = getConnection();
                  PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, limit);
+                int index = bindCurrency(stmt, currencyId);
+                stmt.setInt(index, limit);
 
                 try (ResultSet rs = stmt.executeQuery()) {
                     while (rs.next()) {
-                        String playerName = rs.getString("player_name");
-                        BigDecimal amount = rs.getBigDecimal(currencyId);
-                        if (playerName != null && amount != null) {
-                            results.put(playerName, amount);
+                        BigDecimal amount = rs.getBigDecimal(3);
+                        if (amount != null) {
+                            results.put(rs.getString(1), amount);
                         }
                     }
                 }
@@ -407,6 +917,180 @@ public abstract class JDBCStorage implements CurrencyStorage {
                 plugin.getLogger().atSevere().log("Failed to get top balances: " + e.getMessage());
             }
             return results;
-        }, plugin.getDbExecutor());
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> loadPlayerNames(int limit) {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            List<Map.Entry<String, String>> recent = new ArrayList<>();
+            String sql = SqlStatements.SELECT_PLAYER_NAMES.replace("{names}", namesTableName);
+
+            try (Connection conn = getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, limit);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        recent.add(Map.entry(rs.getString(1), rs.getString(2)));
+                    }
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().atSevere().log("Failed to load player names: " + e.getMessage());
+            }
+
+            // Read most recently seen first, returned least recently seen first
+            Map<String, String> names = new LinkedHashMap<>();
+            for (int i = recent.size() - 1; i >= 0; i--) {
+                names.put(recent.get(i).getKey(), recent.get(i).getValue());
+            }
+            return names;
+        });
+    }
+
+    @Override
+    public boolean savePlayerNames(Map<String, String> names) {
+        if (names.isEmpty()) {
+            return true;
+        }
+        String sql = getNameUpsertTemplate().replace("{names}", namesTableName);
+        // Spread the batch over the last milliseconds so it keeps its order when read back
+        long lastSeen = System.currentTimeMillis() - names.size();
+
+        try (Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (Map.Entry<String, String> entry : names.entrySet()) {
+                stmt.setString(1, entry.getKey());
+                stmt.setString(2, entry.getValue());
+                stmt.setLong(3, ++lastSeen);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            return true;
+        } catch (SQLException e) {
+            plugin.getLogger().atSevere().log("Failed to save " + names.size() + " player names: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Integer> getRank(String currencyId, String playerUuid, BigDecimal balance) {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            try (Connection conn = getConnection()) {
+                BigDecimal amount = balance;
+                if (amount == null) {
+                    String balanceSql = currentPlan().forCurrency(currencyId).selectBalance();
+                    try (PreparedStatement stmt = conn.prepareStatement(balanceSql)) {
+                        stmt.setString(bindCurrency(stmt, currencyId), playerUuid);
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            amount = rs.next() ? rs.getBigDecimal(1) : null;
+                        }
+                    }
+                }
+                if (amount == null || amount.signum() <= 0) {
+                    return -1;
+                }
+
+                String countSql = currentPlan().forCurrency(currencyId).countAhead();
+                try (PreparedStatement stmt = conn.prepareStatement(countSql)) {
+                    int index = bindCurrency(stmt, currencyId);
+                    stmt.setBigDecimal(index++, amount);
+                    stmt.setBigDecimal(index++, amount);
+                    stmt.setString(index++, playerUuid);
+                    stmt.setString(index, playerUuid);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        return rs.next() ? rs.getInt(1) + 1 : -1;
+                    }
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().atSevere().log("Failed to get player rank: " + e.getMessage());
+                return -1;
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getLeaderboardPage(String currencyId, int offset, int limit) {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            String sql = currentPlan().forCurrency(currencyId).selectPage();
+
+            try (Connection conn = getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = bindCurrency(stmt, currencyId);
+                stmt.setInt(index++, limit);
+                stmt.setInt(index, offset);
+                return readLeaderboardEntries(stmt);
+            } catch (SQLException e) {
+                plugin.getLogger().atSevere().log("Failed to get leaderboard page: " + e.getMessage());
+                // Fail the future so snapshot refreshes keep serving their previous data
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getLeaderboardPageAfter(String currencyId, LeaderboardCursor after, int limit) {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            String sql = currentPlan().forCurrency(currencyId).selectPageAfter();
+
+            try (Connection conn = getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = bindCurrency(stmt, currencyId);
+                stmt.setBigDecimal(index++, after.amount());
+                stmt.setBigDecimal(index++, after.amount());
+                stmt.setString(index++, after.playerId().toString());
+                stmt.setInt(index, limit);
+                return readLeaderboardEntries(stmt);
+            } catch (SQLException e) {
+                plugin.getLogger().atSevere().log("Failed to get leaderboard page: " + e.getMessage());
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> getBalancesInRange(String currencyId, BigDecimal min, BigDecimal max, int limit) {
+        return plugin.getStorageExecutors().supplyAsync(StorageLane.BACKGROUND, null, () -> {
+            String sql = currentPlan().forCurrency(currencyId).selectRange();
+
+            try (Connection conn = getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = bindCurrency(stmt, currencyId);
+                stmt.setBigDecimal(index++, min);
+                stmt.setBigDecimal(index++, max);
+                stmt.setInt(index, limit);
+                return readLeaderboardEntries(stmt);
+            } catch (SQLException e) {
+                plugin.getLogger().atSevere().log("Failed to get balances in range: " + e.getMessage());
+                return List.of();
+            }
+        });
+    }
+
+    /**
+     * Bind the currency id of a normalized leaderboard query.
+     *
+     * @return The index of the next parameter
+     */
+    private int bindCurrency(PreparedStatement stmt, String currencyId) throws SQLException {
+        if (normalized) {
+            stmt.setString(1, currencyId);
+            return 2;
+        }
+        return 1;
+    }
+
+    private List<LeaderboardEntry> readLeaderboardEntries(PreparedStatement stmt) throws SQLException {
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                BigDecimal amount = rs.getBigDecimal(3);
+                if (amount == null) continue;
+                try {
+                    entries.add(new LeaderboardEntry(UUID.fromString(rs.getString(1)), rs.getString(2), amount));
+                } catch (IllegalArgumentException ignored) {}
+            }
+        }
+        return entries;
     }
 }
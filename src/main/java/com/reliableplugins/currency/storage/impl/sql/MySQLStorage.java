@@ -103,5 +103,39 @@ public class MySQLStorage extends JDBCStorage {
     protected String getAddNameColumnTemplate() {
         return SqlStatements.ALTER_TABLE_ADD_NAME_COLUMN;
     }
-}
 
+    @Override
+    protected String getCreateBalanceIndexTemplate() {
+        return SqlStatements.CREATE_BALANCE_INDEX;
+    }
+
+    @Override
+    protected String getDropIndexTemplate() {
+        return SqlStatements.DROP_INDEX_MYSQL;
+    }
+
+    @Override
+    protected String getCurrencyIdColumnType() {
+        return SqlStatements.MYSQL_CURRENCY_ID_TYPE;
+    }
+
+    @Override
+    protected String getCopyColumnToBalancesTemplate() {
+        return SqlStatements.COPY_COLUMN_TO_BALANCES_MYSQL;
+    }
+
+    @Override
+    protected String getNameUpsertTemplate() {
+        return SqlStatements.UPSERT_NAME_MYSQL;
+    }
+
+    @Override
+    protected String getSchemaSnapshotTemplate() {
+        return SqlStatements.SCHEMA_SNAPSHOT_MYSQL;
+    }
+
+    @Override
+    protected String getBalanceUpsertTemplate() {
+        return SqlStatements.UPSERT_BALANCE_MYSQL;
+    }
+}
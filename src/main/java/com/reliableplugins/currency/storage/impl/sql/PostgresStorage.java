@@ -102,5 +102,39 @@ public class PostgresStorage extends JDBCStorage {
     protected String getAddNameColumnTemplate() {
         return SqlStatements.ALTER_TABLE_ADD_NAME_COLUMN_IF_NOT_EXISTS;
     }
-}
 
+    @Override
+    protected String getCreateBalanceIndexTemplate() {
+        return SqlStatements.CREATE_BALANCE_INDEX_IF_NOT_EXISTS;
+    }
+
+    @Override
+    protected String getDropIndexTemplate() {
+        return SqlStatements.DROP_INDEX_IF_EXISTS;
+    }
+
+    @Override
+    protected String getCurrencyIdColumnType() {
+        return SqlStatements.POSTGRES_CURRENCY_ID_TYPE;
+    }
+
+    @Override
+    protected String getCopyColumnToBalancesTemplate() {
+        return SqlStatements.COPY_COLUMN_TO_BALANCES_POSTGRES;
+    }
+
+    @Override
+    protected String getNameUpsertTemplate() {
+        return SqlStatements.UPSERT_NAME_POSTGRES;
+    }
+
+    @Override
+    protected String getSchemaSnapshotTemplate() {
+        return SqlStatements.SCHEMA_SNAPSHOT_POSTGRES;
+    }
+
+    @Override
+    protected String getBalanceUpsertTemplate() {
+        return SqlStatements.UPSERT_BALANCE_POSTGRES;
+    }
+}
@@ -79,7 +79,7 @@ public class SQLiteStorage extends JDBCStorage {
 
     @Override
     protected Function<List<String>, String> getUpdateClauseBuilder() {
-        return PreparedStatementBuilder.UpsertBuilder::noUpdateClause;
+        return PreparedStatementBuilder.UpsertBuilder::postgresUpdateClause;
     }
 
     @Override
@@ -96,5 +96,39 @@ public class SQLiteStorage extends JDBCStorage {
     protected String getAddNameColumnTemplate() {
         return SqlStatements.ALTER_TABLE_ADD_NAME_COLUMN;
     }
-}
 
+    @Override
+    protected String getCreateBalanceIndexTemplate() {
+        return SqlStatements.CREATE_BALANCE_INDEX_IF_NOT_EXISTS;
+    }
+
+    @Override
+    protected String getDropIndexTemplate() {
+        return SqlStatements.DROP_INDEX_IF_EXISTS;
+    }
+
+    @Override
+    protected String getCurrencyIdColumnType() {
+        return SqlStatements.SQLITE_CURRENCY_ID_TYPE;
+    }
+
+    @Override
+    protected String getCopyColumnToBalancesTemplate() {
+        return SqlStatements.COPY_COLUMN_TO_BALANCES_SQLITE;
+    }
+
+    @Override
+    protected String getNameUpsertTemplate() {
+        return SqlStatements.UPSERT_NAME_SQLITE;
+    }
+
+    @Override
+    protected String getSchemaSnapshotTemplate() {
+        return SqlStatements.SCHEMA_SNAPSHOT_SQLITE;
+    }
+
+    @Override
+    protected String getBalanceUpsertTemplate() {
+        return SqlStatements.UPSERT_BALANCE_SQLITE;
+    }
+}
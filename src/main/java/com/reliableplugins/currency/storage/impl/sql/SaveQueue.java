@@ -0,0 +1,297 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.storage.impl.sql;
+
+import com.reliableplugins.currency.HyCurrencyPlugin;
+import com.reliableplugins.currency.model.CurrencyModel;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-commit queue for player saves.
+ * <p>
+ * Saves are collected in a bounded ring buffer and handed to the writer by a single flusher
+ * thread, many accounts per transaction. A batch is flushed once it reaches the current batch
+ * limit or once its oldest save has waited the maximum delay. The batch limit adapts to
+ * the observed commit latency: it grows while commits stay well under the target and is
+ * halved when they exceed it.
+ * <p>
+ * A failed batch is set aside and written again after a backoff, while new batches keep
+ * flowing; a later commit of the same account supersedes it. Every queued save completes:
+ * written, failed after its last attempt, or failed when the queue stops.
+ */
+public class SaveQueue {
+
+    private static final int MIN_BATCH_SIZE = 8;
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final HyCurrencyPlugin plugin;
+    private final BatchWriter writer;
+    private final BlockingQueue<PendingSave> buffer;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long targetCommitMillis;
+    private final int maxAttempts;
+    private final long retryBackoffNanos;
+    // Failed batches waiting for their next attempt, earliest first
+    private final BlockingQueue<RetryBatch> retries = new PriorityBlockingQueue<>(16, Comparator.comparingLong(RetryBatch::dueNanos));
+
+    private volatile boolean running;
+    private volatile int batchLimit;
+    private volatile double averageCommitMillis;
+    private Thread flusher;
+
+    /**
+     * @param maxAttempts       Attempts per batch, including the first
+     * @param retryBackoffMillis Delay before the second attempt, growing linearly after that
+     */
+    public SaveQueue(HyCurrencyPlugin plugin, BatchWriter writer, int capacity, int maxBatchSize,
+                     long maxDelayMillis, long targetCommitMillis, int maxAttempts, long retryBackoffMillis) {
+        this.plugin = plugin;
+        this.writer = writer;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.maxBatchSize = Math.max(MIN_BATCH_SIZE, maxBatchSize);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMillis));
+        this.targetCommitMillis = Math.max(1, targetCommitMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, retryBackoffMillis));
+        this.batchLimit = Math.min(this.maxBatchSize, 64);
+    }
+
+    public void start() {
+        running = true;
+        flusher = new Thread(this::run, "HyCurrency-SaveQueue");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Stop accepting saves and wait for the flusher to write everything already queued.
+     * Saves it has not reached by the timeout are failed rather than left pending.
+     */
+    public void shutdown() {
+        running = false;
+        if (flusher == null) {
+            return;
+        }
+        try {
+            flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            int stranded = failQueued(new IllegalStateException("Save queue shut down before the save was written"));
+            plugin.getLogger().atSevere().log("Save queue did not drain within " + TimeUnit.MILLISECONDS.toSeconds(SHUTDOWN_TIMEOUT_MILLIS)
+                    + "s, failed " + stranded + " queued saves");
+        }
+    }
+
+    /**
+     * Queue a save.
+     *
+     * @return A future completed once the save is committed, or null if the queue is full or stopped
+     */
+    public CompletableFuture<Void> submit(String playerUuid, CurrencyModel model) {
+        if (!running) {
+            return null;
+        }
+        PendingSave pending = new PendingSave(playerUuid, model, new CompletableFuture<>());
+        if (!buffer.offer(pending)) {
+            return null;
+        }
+        // Stopped while offering: take it back unless the flusher already has it
+        if (!running && buffer.remove(pending)) {
+            return null;
+        }
+        return pending.future();
+    }
+
+    public int getPending() {
+        return buffer.size();
+    }
+
+    /**
+     * @return The number of failed batches waiting to be written again
+     */
+    public int getRetrying() {
+        return retries.size();
+    }
+
+    public int getBatchLimit() {
+        return batchLimit;
+    }
+
+    public double getAverageCommitMillis() {
+        return averageCommitMillis;
+    }
+
+    private void run() {
+        List<PendingSave> batch = new ArrayList<>();
+        try {
+            while (running || !buffer.isEmpty() || !retries.isEmpty()) {
+                try {
+                    RetryBatch retry = retries.peek();
+                    long now = System.nanoTime();
+                    // Once stopping, retries go out without waiting for their backoff
+                    if (retry != null && (!running || retry.dueNanos() <= now) && retries.remove(retry)) {
+                        flush(retry.saves(), retry.attempt(), batchLimit);
+                        continue;
+                    }
+
+                    long wait = retry != null ? Math.min(IDLE_POLL_NANOS, retry.dueNanos() - now) : IDLE_POLL_NANOS;
+                    PendingSave first = buffer.poll(Math.max(0, wait), TimeUnit.NANOSECONDS);
+                    if (first == null) continue;
+
+                    batch.add(first);
+                    long deadline = System.nanoTime() + maxDelayNanos;
+                    int limit = batchLimit;
+                    while (batch.size() < limit) {
+                        buffer.drainTo(batch, limit - batch.size());
+                        long remaining = deadline - System.nanoTime();
+                        if (batch.size() >= limit || remaining <= 0 || !running) break;
+                        PendingSave next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) break;
+                        batch.add(next);
+                    }
+
+                    flush(new ArrayList<>(batch), 1, limit);
+                } finally {
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Whatever ended the loop, stop accepting saves and leave none pending
+            running = false;
+            failQueued(new IllegalStateException("Save queue stopped before the save was written"));
+        }
+    }
+
+    private void flush(List<PendingSave> batch, int attempt, int limit) {
+        // Repeated saves of one player collapse into its latest model
+        Map<String, CurrencyModel> accounts = new LinkedHashMap<>();
+        for (PendingSave pending : batch) {
+            accounts.put(pending.playerUuid(), pending.model());
+        }
+
+        long start = System.nanoTime();
+        try {
+            writer.write(new ArrayList<>(accounts.entrySet()));
+        } catch (Throwable t) {
+            // Not just SQLException: anything escaping here would end the flusher and strand every queued save
+            if (t instanceof Exception && attempt < maxAttempts) {
+                plugin.getLogger().atWarning().log("Failed to group-commit " + accounts.size() + " accounts (attempt " + attempt + "/"
+                        + maxAttempts + "), retrying: " + t);
+                retries.add(new RetryBatch(batch, attempt + 1, System.nanoTime() + retryBackoffNanos * attempt));
+                return;
+            }
+            plugin.getLogger().atSevere().log("Failed to group-commit " + accounts.size() + " accounts after " + attempt + " attempts: " + t);
+            for (PendingSave pending : batch) {
+                pending.future().completeExceptionally(t);
+            }
+            return;
+        }
+        adapt(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), batch.size() >= limit);
+
+        for (PendingSave pending : batch) {
+            pending.future().complete(null);
+        }
+        supersede(accounts.keySet());
+    }
+
+    // A commit of an account makes its older failed saves moot
+    private void supersede(Set<String> committed) {
+        if (retries.isEmpty()) {
+            return;
+        }
+        Iterator<RetryBatch> iterator = retries.iterator();
+        while (iterator.hasNext()) {
+            RetryBatch retry = iterator.next();
+            boolean emptied;
+            synchronized (retry.saves()) {
+                retry.saves().removeIf(pending -> committed.contains(pending.playerUuid()) && pending.future().complete(null));
+                emptied = retry.saves().isEmpty();
+            }
+            if (emptied) {
+                retries.remove(retry);
+            }
+        }
+    }
+
+    /**
+     * Fail every save still in the buffer or waiting for a retry.
+     *
+     * @return The number of saves failed
+     */
+    private int failQueued(Throwable cause) {
+        List<PendingSave> stranded = new ArrayList<>();
+        buffer.drainTo(stranded);
+        List<RetryBatch> failedBatches = new ArrayList<>();
+        retries.drainTo(failedBatches);
+        for (RetryBatch retry : failedBatches) {
+            synchronized (retry.saves()) {
+                stranded.addAll(retry.saves());
+            }
+        }
+        for (PendingSave pending : stranded) {
+            pending.future().completeExceptionally(cause);
+        }
+        return stranded.size();
+    }
+
+    private void adapt(long commitMillis, boolean batchWasFull) {
+        double average = averageCommitMillis == 0 ? commitMillis : averageCommitMillis * 0.8 + commitMillis * 0.2;
+        averageCommitMillis = average;
+
+        if (average > targetCommitMillis) {
+            batchLimit = Math.max(MIN_BATCH_SIZE, batchLimit / 2);
+        } else if (batchWasFull && average < targetCommitMillis / 2.0) {
+            batchLimit = Math.min(maxBatchSize, batchLimit + Math.max(1, batchLimit / 4));
+        }
+    }
+
+    /**
+     * Writes a batch of accounts in one transaction.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        void write(List<Map.Entry<String, CurrencyModel>> accounts) throws SQLException;
+    }
+
+    private record PendingSave(String playerUuid, CurrencyModel model, CompletableFuture<Void> future) {
+    }
+
+    private record RetryBatch(List<PendingSave> saves, int attempt, long dueNanos) {
+    }
+
+}
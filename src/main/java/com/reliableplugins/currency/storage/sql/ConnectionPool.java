@@ -50,6 +50,13 @@ public class ConnectionPool {
         return dataSource != null && dataSource.isRunning() && !dataSource.isClosed();
     }
 
+    /**
+     * Get the largest number of connections the pool will open.
+     */
+    public int getMaximumPoolSize() {
+        return dataSource.getMaximumPoolSize();
+    }
+
     /**
      * Close the connection pool and release all resources.
      */
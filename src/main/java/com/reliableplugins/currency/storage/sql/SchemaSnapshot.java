@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.storage.sql;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The tables, columns and indexes of a database, read with a single catalog query so
+ * startup can decide which DDL is missing without issuing it and parsing failures.
+ * All names are compared case-insensitively.
+ */
+public final class SchemaSnapshot {
+
+    private final Set<String> tables = new HashSet<>();
+    private final Map<String, Set<String>> columns = new HashMap<>();
+    private final Map<String, Set<String>> indexes = new HashMap<>();
+
+    private SchemaSnapshot() {
+    }
+
+    /**
+     * Read the snapshot for the given tables; columns and indexes of tables that do not exist are empty.
+     *
+     * @param template A dialect's catalog query, see {@link SqlStatements#SCHEMA_SNAPSHOT_MYSQL}
+     */
+    public static SchemaSnapshot read(Connection conn, String template, Collection<String> tableNames) throws SQLException {
+        SchemaSnapshot snapshot = new SchemaSnapshot();
+        // Our own table names, never user input
+        String tables = tableNames.stream().map(table -> "'" + table + "'").collect(Collectors.joining(", "));
+
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(template.replace("{tables}", tables))) {
+            while (rs.next()) {
+                String table = normalize(rs.getString(2));
+                String name = rs.getString(3);
+                if (name == null) continue;
+                if ("column".equals(rs.getString(1))) {
+                    // A table exists exactly when it has columns
+                    snapshot.tables.add(table);
+                    snapshot.columns.computeIfAbsent(table, k -> new HashSet<>()).add(normalize(name));
+                } else {
+                    snapshot.indexes.computeIfAbsent(table, k -> new HashSet<>()).add(normalize(name));
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    public boolean hasTable(String table) {
+        return tables.contains(normalize(table));
+    }
+
+    public boolean hasColumn(String table, String column) {
+        return columns.getOrDefault(normalize(table), Set.of()).contains(normalize(column));
+    }
+
+    public boolean hasIndex(String table, String index) {
+        return indexes.getOrDefault(normalize(table), Set.of()).contains(normalize(index));
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+}
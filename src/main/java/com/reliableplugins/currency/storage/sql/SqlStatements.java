@@ -21,6 +21,7 @@ package com.reliableplugins.currency.storage.sql;
 /**
  * Contains all SQL statements used by the currency storage system.
  * Use {table} as a placeholder for the table name.
+ * Use {balances} as a placeholder for the normalized balance table name.
  * Use {columns} as a placeholder for dynamic column names.
  * Use {values} as a placeholder for dynamic values.
  * Use {updates} as a placeholder for dynamic update clauses.
@@ -30,11 +31,27 @@ public final class SqlStatements {
     // Table creation
     public static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS {table} (player_uuid {pk_type} PRIMARY KEY, player_name {name_type})";
 
+    // Schema version bookkeeping
+    // layout: the balance layout ("columns" or "normalized") that holds the current balances
+    public static final String CREATE_SCHEMA_VERSION_TABLE = "CREATE TABLE IF NOT EXISTS {table} (version INTEGER NOT NULL, layout VARCHAR(16))";
+    public static final String ALTER_SCHEMA_VERSION_ADD_LAYOUT = "ALTER TABLE {table} ADD COLUMN layout VARCHAR(16)";
+    public static final String SELECT_SCHEMA_VERSION = "SELECT MAX(version) FROM {table}";
+    public static final String SELECT_SCHEMA_VERSION_AND_LAYOUT = "SELECT version, layout FROM {table} ORDER BY version DESC LIMIT 1";
+    public static final String DELETE_SCHEMA_VERSION = "DELETE FROM {table}";
+    public static final String INSERT_SCHEMA_VERSION = "INSERT INTO {table} (version, layout) VALUES (?, ?)";
+
     // Index creation
-    public static final String CREATE_NAME_INDEX_MYSQL = "CREATE INDEX IF NOT EXISTS idx_player_name ON {table} (player_name)";
+    // MySQL has no CREATE INDEX IF NOT EXISTS; startup only runs this when the index is missing
+    public static final String CREATE_NAME_INDEX_MYSQL = "CREATE INDEX idx_player_name ON {table} (player_name)";
     public static final String CREATE_NAME_INDEX_POSTGRES = "CREATE INDEX IF NOT EXISTS idx_player_name ON {table} (player_name)";
     public static final String CREATE_NAME_INDEX_SQLITE = "CREATE INDEX IF NOT EXISTS idx_player_name ON {table} (player_name)";
 
+    // Per-currency leaderboard index, matching the ORDER BY {column} DESC, player_uuid ASC of the leaderboard queries
+    public static final String CREATE_BALANCE_INDEX = "CREATE INDEX {index} ON {table} ({column} DESC, player_uuid)";
+    public static final String CREATE_BALANCE_INDEX_IF_NOT_EXISTS = "CREATE INDEX IF NOT EXISTS {index} ON {table} ({column} DESC, player_uuid)";
+    public static final String DROP_INDEX_MYSQL = "DROP INDEX {index} ON {table}";
+    public static final String DROP_INDEX_IF_EXISTS = "DROP INDEX IF EXISTS {index}";
+
     // Column operations
     public static final String ALTER_TABLE_ADD_COLUMN = "ALTER TABLE {table} ADD COLUMN {column} {type} DEFAULT 0";
     public static final String ALTER_TABLE_ADD_COLUMN_IF_NOT_EXISTS = "ALTER TABLE {table} ADD COLUMN IF NOT EXISTS {column} {type} DEFAULT 0";
@@ -44,13 +61,61 @@ public final class SqlStatements {
 
     // Select queries
     public static final String SELECT_PLAYER_CURRENCIES = "SELECT player_name, {columns} FROM {table} WHERE player_uuid = ?";
-    public static final String SELECT_TOP_BALANCES = "SELECT player_uuid, player_name, {column} FROM {table} ORDER BY {column} DESC LIMIT ?";
+    public static final String SELECT_TOP_BALANCES = "SELECT player_uuid, player_name, {column} FROM {table} ORDER BY {column} DESC, player_uuid ASC LIMIT ?";
     public static final String SELECT_PLAYER_BY_NAME = "SELECT player_uuid, player_name, {columns} FROM {table} WHERE player_name = ?";
 
+    // Leaderboard queries, ordered by {column} DESC then player_uuid so ties are stable
+    public static final String SELECT_PLAYER_BALANCE = "SELECT {column} FROM {table} WHERE player_uuid = ?";
+    public static final String COUNT_BALANCES_AHEAD = "SELECT COUNT(*) FROM {table} WHERE ({column} > ? OR ({column} = ? AND player_uuid < ?)) AND player_uuid <> ?";
+    public static final String SELECT_LEADERBOARD_PAGE = "SELECT player_uuid, player_name, {column} FROM {table} WHERE {column} > 0 ORDER BY {column} DESC, player_uuid ASC LIMIT ? OFFSET ?";
+    // Keyset page: rows after the (balance, uuid) cursor. The leading {column} <= ? gives every dialect a plain index range
+    public static final String SELECT_LEADERBOARD_PAGE_AFTER = "SELECT player_uuid, player_name, {column} FROM {table} WHERE {column} > 0 AND {column} <= ? AND ({column} < ? OR player_uuid > ?) ORDER BY {column} DESC, player_uuid ASC LIMIT ?";
+    public static final String SELECT_BALANCES_IN_RANGE = "SELECT player_uuid, player_name, {column} FROM {table} WHERE {column} > 0 AND {column} BETWEEN ? AND ? ORDER BY {column} DESC, player_uuid ASC LIMIT ?";
+
+    // Normalized layout: one (player_uuid, currency_id, amount) row per balance in {balances}, names stay in {table}
+    public static final String CREATE_BALANCE_TABLE = "CREATE TABLE IF NOT EXISTS {balances} (player_uuid {pk_type} NOT NULL, currency_id {id_type} NOT NULL, amount {type} NOT NULL DEFAULT 0, PRIMARY KEY (player_uuid, currency_id))";
+    // A single index whose leading currency_id gives every currency its own (amount DESC, player_uuid) range
+    public static final String CREATE_BALANCE_TABLE_INDEX = "CREATE INDEX {index} ON {balances} (currency_id, amount DESC, player_uuid)";
+    // Column to balance table copy; skips balances already in {balances} so an interrupted copy can simply run again
+    public static final String COPY_COLUMN_TO_BALANCES_MYSQL = "INSERT IGNORE INTO {balances} (player_uuid, currency_id, amount) SELECT player_uuid, ?, {column} FROM {table} WHERE {column} IS NOT NULL AND {column} <> 0";
+    public static final String COPY_COLUMN_TO_BALANCES_SQLITE = "INSERT OR IGNORE INTO {balances} (player_uuid, currency_id, amount) SELECT player_uuid, ?, {column} FROM {table} WHERE {column} IS NOT NULL AND {column} <> 0";
+    public static final String COPY_COLUMN_TO_BALANCES_POSTGRES = "INSERT INTO {balances} (player_uuid, currency_id, amount) SELECT player_uuid, ?, {column} FROM {table} WHERE {column} IS NOT NULL AND {column} <> 0 ON CONFLICT DO NOTHING";
+    public static final String DELETE_CURRENCY_BALANCES = "DELETE FROM {balances} WHERE currency_id = ?";
+    // Back from the normalized layout: a balance without a row is zero
+    public static final String COPY_BALANCES_TO_COLUMN = "UPDATE {table} SET {column} = COALESCE((SELECT b.amount FROM {balances} b WHERE b.player_uuid = {table}.player_uuid AND b.currency_id = ?), 0)";
+    public static final String SELECT_PLAYER_BALANCES = "SELECT p.player_name, b.currency_id, b.amount FROM {table} p LEFT JOIN {balances} b ON b.player_uuid = p.player_uuid WHERE p.player_uuid = ?";
+    public static final String SELECT_PLAYER_BALANCES_BY_NAME = "SELECT p.player_uuid, p.player_name, b.currency_id, b.amount FROM {table} p LEFT JOIN {balances} b ON b.player_uuid = p.player_uuid WHERE p.player_name = ? ORDER BY p.player_uuid";
+    // Leaderboard queries for the normalized layout; currency_id is always the first parameter
+    public static final String SELECT_PLAYER_BALANCE_NORMALIZED = "SELECT amount FROM {balances} WHERE currency_id = ? AND player_uuid = ?";
+    public static final String COUNT_BALANCES_AHEAD_NORMALIZED = "SELECT COUNT(*) FROM {balances} WHERE currency_id = ? AND (amount > ? OR (amount = ? AND player_uuid < ?)) AND player_uuid <> ?";
+    public static final String SELECT_TOP_BALANCES_NORMALIZED = "SELECT b.player_uuid, p.player_name, b.amount FROM {balances} b LEFT JOIN {table} p ON p.player_uuid = b.player_uuid WHERE b.currency_id = ? ORDER BY b.amount DESC, b.player_uuid ASC LIMIT ?";
+    public static final String SELECT_LEADERBOARD_PAGE_NORMALIZED = "SELECT b.player_uuid, p.player_name, b.amount FROM {balances} b LEFT JOIN {table} p ON p.player_uuid = b.player_uuid WHERE b.currency_id = ? AND b.amount > 0 ORDER BY b.amount DESC, b.player_uuid ASC LIMIT ? OFFSET ?";
+    public static final String SELECT_LEADERBOARD_PAGE_AFTER_NORMALIZED = "SELECT b.player_uuid, p.player_name, b.amount FROM {balances} b LEFT JOIN {table} p ON p.player_uuid = b.player_uuid WHERE b.currency_id = ? AND b.amount > 0 AND b.amount <= ? AND (b.amount < ? OR b.player_uuid > ?) ORDER BY b.amount DESC, b.player_uuid ASC LIMIT ?";
+    public static final String SELECT_BALANCES_IN_RANGE_NORMALIZED = "SELECT b.player_uuid, p.player_name, b.amount FROM {balances} b LEFT JOIN {table} p ON p.player_uuid = b.player_uuid WHERE b.currency_id = ? AND b.amount > 0 AND b.amount BETWEEN ? AND ? ORDER BY b.amount DESC, b.player_uuid ASC LIMIT ?";
+
+    // Schema snapshot: ('column' | 'index', table, name) rows for the tables in {tables}, in one round trip
+    public static final String SCHEMA_SNAPSHOT_MYSQL = "SELECT 'column', TABLE_NAME, COLUMN_NAME FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ({tables}) "
+            + "UNION ALL SELECT 'index', TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ({tables})";
+    public static final String SCHEMA_SNAPSHOT_POSTGRES = "SELECT 'column', table_name::text, column_name::text FROM information_schema.columns WHERE table_schema = current_schema() AND table_name IN ({tables}) "
+            + "UNION ALL SELECT 'index', tablename::text, indexname::text FROM pg_indexes WHERE schemaname = current_schema() AND tablename IN ({tables})";
+    public static final String SCHEMA_SNAPSHOT_SQLITE = "SELECT 'column', m.name, c.name FROM sqlite_master m, pragma_table_info(m.name) c WHERE m.type = 'table' AND m.name IN ({tables}) "
+            + "UNION ALL SELECT 'index', tbl_name, name FROM sqlite_master WHERE type = 'index' AND tbl_name IN ({tables})";
+
+    // Display names as players last connected with them; player_name in {table} stays lowercased for lookups
+    public static final String CREATE_NAMES_TABLE = "CREATE TABLE IF NOT EXISTS {names} (player_uuid {pk_type} PRIMARY KEY, display_name {name_type} NOT NULL, last_seen BIGINT NOT NULL)";
+    public static final String SELECT_PLAYER_NAMES = "SELECT player_uuid, display_name FROM {names} ORDER BY last_seen DESC, player_uuid ASC LIMIT ?";
+
     // Upsert queries (database-specific)
     public static final String UPSERT_MYSQL = "INSERT INTO {table} ({columns}) VALUES ({values}) ON DUPLICATE KEY UPDATE {updates}";
-    public static final String UPSERT_SQLITE = "INSERT OR REPLACE INTO {table} ({columns}) VALUES ({values})";
+    // Not INSERT OR REPLACE: that rewrites the whole row, resetting columns the statement leaves out
+    public static final String UPSERT_SQLITE = "INSERT INTO {table} ({columns}) VALUES ({values}) ON CONFLICT (player_uuid) DO UPDATE SET {updates}";
     public static final String UPSERT_POSTGRES = "INSERT INTO {table} ({columns}) VALUES ({values}) ON CONFLICT (player_uuid) DO UPDATE SET {updates}";
+    public static final String UPSERT_NAME_MYSQL = "INSERT INTO {names} (player_uuid, display_name, last_seen) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE display_name = VALUES(display_name), last_seen = VALUES(last_seen)";
+    public static final String UPSERT_NAME_SQLITE = "INSERT INTO {names} (player_uuid, display_name, last_seen) VALUES (?, ?, ?) ON CONFLICT (player_uuid) DO UPDATE SET display_name = excluded.display_name, last_seen = excluded.last_seen";
+    public static final String UPSERT_NAME_POSTGRES = "INSERT INTO {names} (player_uuid, display_name, last_seen) VALUES (?, ?, ?) ON CONFLICT (player_uuid) DO UPDATE SET display_name = EXCLUDED.display_name, last_seen = EXCLUDED.last_seen";
+    public static final String UPSERT_BALANCE_MYSQL = "INSERT INTO {balances} (player_uuid, currency_id, amount) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE amount = VALUES(amount)";
+    public static final String UPSERT_BALANCE_SQLITE = "INSERT OR REPLACE INTO {balances} (player_uuid, currency_id, amount) VALUES (?, ?, ?)";
+    public static final String UPSERT_BALANCE_POSTGRES = "INSERT INTO {balances} (player_uuid, currency_id, amount) VALUES (?, ?, ?) ON CONFLICT (player_uuid, currency_id) DO UPDATE SET amount = EXCLUDED.amount";
 
     // Connection URLs
     public static final String MYSQL_URL = "jdbc:mysql://{host}:{port}/{database}?useSSL=false&autoReconnect=true&useUnicode=true&characterEncoding=UTF-8";
@@ -66,12 +131,15 @@ public final class SqlStatements {
     public static final String MYSQL_CURRENCY_TYPE = "DECIMAL(19,4)";
     public static final String MYSQL_PK_TYPE = "VARCHAR(36)";
     public static final String MYSQL_NAME_TYPE = "VARCHAR(32)";
+    public static final String MYSQL_CURRENCY_ID_TYPE = "VARCHAR(64)";
     public static final String POSTGRES_CURRENCY_TYPE = "DECIMAL(19,4)";
     public static final String POSTGRES_PK_TYPE = "VARCHAR(36)";
     public static final String POSTGRES_NAME_TYPE = "VARCHAR(32)";
+    public static final String POSTGRES_CURRENCY_ID_TYPE = "VARCHAR(64)";
     public static final String SQLITE_CURRENCY_TYPE = "REAL";
     public static final String SQLITE_PK_TYPE = "TEXT";
     public static final String SQLITE_NAME_TYPE = "TEXT";
+    public static final String SQLITE_CURRENCY_ID_TYPE = "TEXT";
 
 }
 
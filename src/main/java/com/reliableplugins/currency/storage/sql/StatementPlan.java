@@ -0,0 +1,288 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Michael Yattaw
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * See the LICENSE file in the project root for full license information.
+ */
+
+package com.reliableplugins.currency.storage.sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Every SQL string the storage needs for one set of currencies, built once.
+ * <p>
+ * Column lists, parameter order and sanitized column names are resolved when the
+ * plan is built, so loads, saves and leaderboard queries only look statements up.
+ * A plan is immutable; storage swaps in a new one when the currency set changes.
+ */
+public final class StatementPlan {
+
+    private final Set<String> currencySet;
+    private final List<String> currencyIds;
+    private final List<String> columns;
+    private final String selectPlayerSql;
+    private final String selectPlayerByNameSql;
+    private final String upsertPlayerSql;
+    // Column layout: currencies present in a model -> upsert writing only those columns
+    private final Map<BitSet, String> partialUpserts = new ConcurrentHashMap<>();
+    private final String upsertBalanceSql;
+    private final Map<String, CurrencyStatements> currencyStatements;
+    // Normalized statements do not depend on the currency, so one instance serves all of them
+    private final CurrencyStatements sharedStatements;
+    private final Builder builder;
+
+    private StatementPlan(Builder builder, Set<String> currencyIds) {
+        this.builder = builder;
+        this.currencySet = Set.copyOf(currencyIds);
+        this.currencyIds = List.copyOf(currencyIds);
+
+        if (builder.normalized) {
+            this.selectPlayerSql = builder.normalizedSql(SqlStatements.SELECT_PLAYER_BALANCES);
+            this.selectPlayerByNameSql = builder.normalizedSql(SqlStatements.SELECT_PLAYER_BALANCES_BY_NAME);
+            this.columns = List.of();
+            this.upsertPlayerSql = builder.upsertSql(List.of());
+            this.upsertBalanceSql = builder.normalizedSql(builder.balanceUpsertTemplate);
+            this.currencyStatements = Map.of();
+            this.sharedStatements = builder.normalizedStatements();
+        } else {
+            List<String> columns = new ArrayList<>(this.currencyIds.size());
+            this.currencyIds.forEach(id -> columns.add(builder.columnNames.apply(id)));
+            this.columns = List.copyOf(columns);
+            StringJoiner columnList = new StringJoiner(", ");
+            columns.forEach(columnList::add);
+
+            this.selectPlayerSql = SqlStatements.SELECT_PLAYER_CURRENCIES
+                    .replace("{table}", builder.tableName)
+                    .replace("{columns}", columnList.toString());
+            this.selectPlayerByNameSql = SqlStatements.SELECT_PLAYER_BY_NAME
+                    .replace("{table}", builder.tableName)
+                    .replace("{columns}", columnList.toString());
+            this.upsertPlayerSql = builder.upsertSql(columns);
+            this.upsertBalanceSql = null;
+
+            Map<String, CurrencyStatements> statements = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                statements.put(this.currencyIds.get(i), builder.columnStatements(columns.get(i)));
+            }
+            this.currencyStatements = Map.copyOf(statements);
+            this.sharedStatements = null;
+        }
+    }
+
+    /**
+     * @return Whether this plan was built for exactly the given currencies
+     */
+    public boolean matches(Set<String> currencyIds) {
+        return currencySet.equals(currencyIds);
+    }
+
+    /**
+     * @return Whether the currency is part of this plan
+     */
+    public boolean matchesCurrency(String currencyId) {
+        return currencySet.contains(currencyId);
+    }
+
+    /**
+     * @return The planned currencies, in column and parameter order
+     */
+    public List<String> getCurrencyIds() {
+        return currencyIds;
+    }
+
+    /**
+     * Column layout: player_name, then one column per currency in {@link #getCurrencyIds()} order.
+     * Normalized layout: one (player_name, currency_id, amount) row per balance.
+     */
+    public String getSelectPlayerSql() {
+        return selectPlayerSql;
+    }
+
+    /**
+     * Like {@link #getSelectPlayerSql()} with player_uuid as the first column.
+     */
+    public String getSelectPlayerByNameSql() {
+        return selectPlayerByNameSql;
+    }
+
+    /**
+     * Parameters: player_uuid, player_name, then (column layout only) one amount per currency
+     * in {@link #getCurrencyIds()} order.
+     */
+    public String getUpsertPlayerSql() {
+        return upsertPlayerSql;
+    }
+
+    /**
+     * @return The indexes into {@link #getCurrencyIds()} of the planned currencies the balances hold
+     */
+    public BitSet presentCurrencies(Map<String, BigDecimal> balances) {
+        BitSet present = new BitSet(currencyIds.size());
+        for (int i = 0; i < currencyIds.size(); i++) {
+            if (balances.containsKey(currencyIds.get(i))) {
+                present.set(i);
+            }
+        }
+        return present;
+    }
+
+    /**
+     * Like {@link #getUpsertPlayerSql()}, but the column layout only writes the given currencies,
+     * so a model missing a currency never overwrites its stored balance. Built once per set.
+     * Parameters: player_uuid, player_name, then one amount per present currency in
+     * {@link #getCurrencyIds()} order.
+     *
+     * @param present From {@link #presentCurrencies(Map)}
+     */
+    public String getUpsertPlayerSql(BitSet present) {
+        if (builder.normalized || present.cardinality() == currencyIds.size()) {
+            return upsertPlayerSql;
+        }
+        return partialUpserts.computeIfAbsent(present, set -> {
+            List<String> subset = new ArrayList<>(set.cardinality());
+            set.stream().forEach(i -> subset.add(columns.get(i)));
+            return builder.upsertSql(subset);
+        });
+    }
+
+    /**
+     * Normalized layout only. Parameters: player_uuid, currency_id, amount.
+     */
+    public String getUpsertBalanceSql() {
+        return upsertBalanceSql;
+    }
+
+    /**
+     * Get the leaderboard statements of a currency, building them for a currency outside the plan.
+     */
+    public CurrencyStatements forCurrency(String currencyId) {
+        if (sharedStatements != null) {
+            return sharedStatements;
+        }
+        CurrencyStatements statements = currencyStatements.get(currencyId);
+        return statements != null ? statements : builder.columnStatements(builder.columnNames.apply(currencyId));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Leaderboard statements of one currency. In the normalized layout the currency id is
+     * bound as the first parameter of each of them.
+     */
+    public record CurrencyStatements(String selectBalance, String countAhead, String selectTop,
+                                     String selectPage, String selectPageAfter, String selectRange) {
+    }
+
+    /**
+     * Holds the table names and dialect templates a plan is built from; reusable for every rebuild.
+     */
+    public static class Builder {
+
+        private String tableName;
+        private String balanceTableName;
+        private boolean normalized;
+        private String upsertTemplate;
+        private Function<List<String>, String> updateClauseBuilder;
+        private String balanceUpsertTemplate;
+        private Function<String, String> columnNames;
+
+        private Builder() {
+        }
+
+        public Builder tables(String tableName, String balanceTableName) {
+            this.tableName = tableName;
+            this.balanceTableName = balanceTableName;
+            return this;
+        }
+
+        public Builder normalized(boolean normalized) {
+            this.normalized = normalized;
+            return this;
+        }
+
+        public Builder upsertTemplate(String upsertTemplate, Function<List<String>, String> updateClauseBuilder) {
+            this.upsertTemplate = upsertTemplate;
+            this.updateClauseBuilder = updateClauseBuilder;
+            return this;
+        }
+
+        public Builder balanceUpsertTemplate(String balanceUpsertTemplate) {
+            this.balanceUpsertTemplate = balanceUpsertTemplate;
+            return this;
+        }
+
+        public Builder columnNames(Function<String, String> columnNames) {
+            this.columnNames = columnNames;
+            return this;
+        }
+
+        public StatementPlan build(Set<String> currencyIds) {
+            return new StatementPlan(this, currencyIds);
+        }
+
+        private String upsertSql(List<String> columns) {
+            return PreparedStatementBuilder.upsert(tableName)
+                    .withPrimaryKey("player_uuid")
+                    .withPlayerName()
+                    .withColumns(columns, Function.identity())
+                    .withTemplate(upsertTemplate)
+                    .buildSql(updateClauseBuilder);
+        }
+
+        private String normalizedSql(String template) {
+            return template
+                    .replace("{table}", tableName)
+                    .replace("{balances}", balanceTableName);
+        }
+
+        private CurrencyStatements normalizedStatements() {
+            return new CurrencyStatements(
+                    normalizedSql(SqlStatements.SELECT_PLAYER_BALANCE_NORMALIZED),
+                    normalizedSql(SqlStatements.COUNT_BALANCES_AHEAD_NORMALIZED),
+                    normalizedSql(SqlStatements.SELECT_TOP_BALANCES_NORMALIZED),
+                    normalizedSql(SqlStatements.SELECT_LEADERBOARD_PAGE_NORMALIZED),
+                    normalizedSql(SqlStatements.SELECT_LEADERBOARD_PAGE_AFTER_NORMALIZED),
+                    normalizedSql(SqlStatements.SELECT_BALANCES_IN_RANGE_NORMALIZED));
+        }
+
+        private CurrencyStatements columnStatements(String column) {
+            return new CurrencyStatements(
+                    columnSql(SqlStatements.SELECT_PLAYER_BALANCE, column),
+                    columnSql(SqlStatements.COUNT_BALANCES_AHEAD, column),
+                    columnSql(SqlStatements.SELECT_TOP_BALANCES, column),
+                    columnSql(SqlStatements.SELECT_LEADERBOARD_PAGE, column),
+                    columnSql(SqlStatements.SELECT_LEADERBOARD_PAGE_AFTER, column),
+                    columnSql(SqlStatements.SELECT_BALANCES_IN_RANGE, column));
+        }
+
+        private String columnSql(String template, String column) {
+            return template
+                    .replace("{table}", tableName)
+                    .replace("{column}", column);
+        }
+    }
+
+}